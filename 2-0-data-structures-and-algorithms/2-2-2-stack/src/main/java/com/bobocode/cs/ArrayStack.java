@@ -0,0 +1,141 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. The top of the stack is the last used cell
+ * of the array, so {@link ArrayStack#push(Object)} and {@link ArrayStack#pop()} just write or clear one cell, and
+ * don't allocate a node per element like {@link LinkedStack}.
+ * <p>
+ * When the array is full, it is replaced with an array that is 1.5 times bigger, so push takes amortized O(1) time.
+ * A stack that is created with shrinking enabled also halves its array when it is used for less than a quarter, but
+ * never below the initial capacity. The gap between the two thresholds makes sure that a stack that grows and shrinks
+ * around one size does not copy the array on every operation.
+ *
+ * @param <T> element type
+ * @see IntStack
+ * @see LongStack
+ */
+public class ArrayStack<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int initCapacity;
+    private final boolean shrinkable;
+    private Object[] elements;
+    private int size;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a stack with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @param shrinkable   if true, the array is shrunk when most of it is not used
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public ArrayStack(int initCapacity, boolean shrinkable) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initCapacity);
+        }
+        this.initCapacity = initCapacity;
+        this.shrinkable = shrinkable;
+        this.elements = new Object[initCapacity];
+    }
+
+    /**
+     * Creates a stack of provided elements. The last element is on the top.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        var stack = new ArrayStack<T>(Math.max(DEFAULT_CAPACITY, elements.length), false);
+        for (T element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    @Override
+    public void push(T element) {
+        if (size == elements.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Stack size exceeds " + Integer.MAX_VALUE);
+            }
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE, size + (size >> 1) + 1L);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes the top element and clears its cell, so the array does not keep a reference to it.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        checkNotEmpty();
+        T element = (T) elements[--size];
+        elements[size] = null;
+        if (shrinkable && size < elements.length >> 2 && elements.length > initCapacity) {
+            elements = Arrays.copyOf(elements, Math.max(initCapacity, elements.length >> 1));
+        }
+        return element;
+    }
+
+    /**
+     * Returns the top element without removing it.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        checkNotEmpty();
+        return (T) elements[size - 1];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements. A shrinkable stack also returns to the initial capacity.
+     */
+    public void clear() {
+        if (shrinkable) {
+            elements = new Object[initCapacity];
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * @return a length of the array inside
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+    }
+}
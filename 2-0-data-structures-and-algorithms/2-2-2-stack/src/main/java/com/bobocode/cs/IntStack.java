@@ -0,0 +1,100 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntStack} is a stack of primitive int values based on an array. It provides the same operations as
+ * {@link Stack}, but it does not box the elements, so pushing an int value never allocates an object, and the array
+ * takes 4 bytes per element instead of a reference to an {@link Integer}.
+ *
+ * @see ArrayStack
+ * @see LongStack
+ */
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a stack with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public IntStack(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initCapacity);
+        }
+        elements = new int[initCapacity];
+    }
+
+    /**
+     * Creates a stack of provided elements. The last element is on the top.
+     *
+     * @param elements elements to add
+     * @return a new stack
+     */
+    public static IntStack of(int... elements) {
+        var stack = new IntStack(Math.max(DEFAULT_CAPACITY, elements.length));
+        System.arraycopy(elements, 0, stack.elements, 0, elements.length);
+        stack.size = elements.length;
+        return stack;
+    }
+
+    public void push(int element) {
+        if (size == elements.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Stack size exceeds " + Integer.MAX_VALUE);
+            }
+            elements = Arrays.copyOf(elements, (int) Math.min(Integer.MAX_VALUE, size + (size >> 1) + 1L));
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes the top element.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public int pop() {
+        checkNotEmpty();
+        return elements[--size];
+    }
+
+    /**
+     * Returns the top element without removing it.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public int peek() {
+        checkNotEmpty();
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+    }
+}
@@ -6,6 +6,9 @@ import com.bobocode.util.ExerciseNotCompletedException;
 /**
  * {@link LinkedStack} is a stack implementation that is based on singly linked generic nodes.
  * A node is implemented as inner static class {@link Node<T>}.
+ * <p>
+ * A stack that is created with {@link LinkedStack#LinkedStack(int)} reuses the nodes of popped elements via
+ * {@link NodePool}, so a stack that is pushed and popped all the time does not allocate a node per push.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -16,6 +19,21 @@ import com.bobocode.util.ExerciseNotCompletedException;
  */
 public class LinkedStack<T> implements Stack<T> {
 
+    public LinkedStack() {
+    }
+
+    /**
+     * Creates a stack that keeps up to {@code nodePoolCapacity} popped nodes in a {@link NodePool}. The method
+     * {@link LinkedStack#pop()} clears the element and the next reference of a popped node and releases it to the pool,
+     * and {@link LinkedStack#push(Object)} acquires a node from the pool instead of creating a new one.
+     *
+     * @param nodePoolCapacity max number of nodes kept for reuse, 0 means that nodes are never reused
+     * @throws IllegalArgumentException if node pool capacity is negative
+     */
+    public LinkedStack(int nodePoolCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * This method creates a stack of provided elements
      *
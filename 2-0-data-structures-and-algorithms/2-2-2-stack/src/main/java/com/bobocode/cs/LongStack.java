@@ -0,0 +1,100 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link LongStack} is a stack of primitive long values based on an array. It provides the same operations as
+ * {@link Stack}, but it does not box the elements, so pushing a long value never allocates an object, and the array
+ * takes 8 bytes per element instead of a reference to a {@link Long}.
+ *
+ * @see ArrayStack
+ * @see IntStack
+ */
+public class LongStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int size;
+
+    public LongStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a stack with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public LongStack(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initCapacity);
+        }
+        elements = new long[initCapacity];
+    }
+
+    /**
+     * Creates a stack of provided elements. The last element is on the top.
+     *
+     * @param elements elements to add
+     * @return a new stack
+     */
+    public static LongStack of(long... elements) {
+        var stack = new LongStack(Math.max(DEFAULT_CAPACITY, elements.length));
+        System.arraycopy(elements, 0, stack.elements, 0, elements.length);
+        stack.size = elements.length;
+        return stack;
+    }
+
+    public void push(long element) {
+        if (size == elements.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Stack size exceeds " + Integer.MAX_VALUE);
+            }
+            elements = Arrays.copyOf(elements, (int) Math.min(Integer.MAX_VALUE, size + (size >> 1) + 1L));
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes the top element.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long pop() {
+        checkNotEmpty();
+        return elements[--size];
+    }
+
+    /**
+     * Returns the top element without removing it.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    public long peek() {
+        checkNotEmpty();
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+    }
+}
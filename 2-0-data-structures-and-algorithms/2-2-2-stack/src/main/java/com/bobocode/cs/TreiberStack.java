@@ -0,0 +1,181 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TreiberStack} is a thread-safe stack that can be used by many threads at the same time without any lock. It
+ * is based on singly linked nodes, just like {@link LinkedStack}, but the head is changed using compare-and-set:
+ * {@link TreiberStack#push(Object)} links a new node to the current head and sets it as a new head only if the head
+ * is still the same, and {@link TreiberStack#pop()} does the same with the next node. If another thread has changed
+ * the head in the meantime, the operation is retried.
+ * <p>
+ * When many threads work with the stack, most of compare-and-set operations on the head fail. So after a failed
+ * attempt a thread goes to an elimination array instead of retrying at once:
+ * <ul>
+ *     <li>a pushing thread puts its node into a random slot and waits a little for a popping thread to take it</li>
+ *     <li>a popping thread looks into a random slot and takes a node from there</li>
+ * </ul>
+ * A push and a pop that meet in a slot cancel each other out without touching the head, as if the element was pushed
+ * and popped right away. If nobody comes, the pushing thread takes its node back and retries on the head.
+ * <p>
+ * Every node stores the size of the stack from this node down, so {@link TreiberStack#size()} is exact for the moment
+ * when the head was read. The stack does not accept null elements.
+ *
+ * @param <T> element type
+ */
+public class TreiberStack<T> implements Stack<T> {
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final AtomicReference<Node<T>> head = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationSlots;
+    private final LongAdder eliminationCount = new LongAdder();
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+        int size;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Creates a stack with an elimination array of half as many slots as there are available processors.
+     */
+    public TreiberStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Creates a stack with a given size of an elimination array.
+     *
+     * @param eliminationSlots a number of slots, 0 means that threads always retry on the head
+     * @throws IllegalArgumentException if a number of slots is negative
+     */
+    public TreiberStack(int eliminationSlots) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Elimination slots must not be negative: " + eliminationSlots);
+        }
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        while (true) {
+            Node<T> top = head.get();
+            newNode.next = top;
+            newNode.size = top == null ? 1 : top.size + 1;
+            if (head.compareAndSet(top, newNode) || eliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the top element.
+     *
+     * @return the top element
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public T pop() {
+        T element = tryPop();
+        if (element == null) {
+            throw new EmptyStackException();
+        }
+        return element;
+    }
+
+    /**
+     * Removes the top element if there is one. Unlike {@link TreiberStack#pop()}, it does not throw an exception, so
+     * it can be used by worker threads that take tasks until the stack is empty.
+     *
+     * @return the top element or null if the stack is empty
+     */
+    public T tryPop() {
+        while (true) {
+            Node<T> top = head.get();
+            if (top == null) {
+                return null;
+            }
+            if (head.compareAndSet(top, top.next)) {
+                return top.element;
+            }
+            Node<T> eliminated = eliminatePop();
+            if (eliminated != null) {
+                return eliminated.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        Node<T> top = head.get();
+        return top == null ? 0 : top.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * @return a number of push and pop pairs that met in the elimination array
+     */
+    public long eliminationCount() {
+        return eliminationCount.sum();
+    }
+
+    /**
+     * Offers a node in a random free slot and waits for a popping thread to take it. If nobody takes it, the node is
+     * taken back. If the compare-and-set of taking it back fails, it means that a popping thread has just taken it.
+     */
+    private boolean eliminatePush(Node<T> node) {
+        if (eliminationSlots.length() == 0) {
+            return false;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (eliminationSlots.get(slot) != node) {
+                eliminationCount.increment();
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        if (eliminationSlots.compareAndSet(slot, node, null)) {
+            return false;
+        }
+        eliminationCount.increment();
+        return true;
+    }
+
+    /**
+     * Waits a little for a node in a random slot, and takes it.
+     */
+    private Node<T> eliminatePop() {
+        if (eliminationSlots.length() == 0) {
+            return null;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            Node<T> offered = eliminationSlots.get(slot);
+            if (offered != null && eliminationSlots.compareAndSet(slot, offered, null)) {
+                return offered;
+            }
+            Thread.onSpinWait();
+        }
+        return null;
+    }
+}
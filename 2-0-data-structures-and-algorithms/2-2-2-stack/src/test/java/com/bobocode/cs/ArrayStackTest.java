@@ -0,0 +1,145 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+    private static final int OPERATIONS = 10_000_000;
+    private static final int DEPTH = 1_000;
+
+    private final ArrayStack<Integer> stack = new ArrayStack<>(2, true);
+
+    @Test
+    @Order(1)
+    void createStackWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayStack<>(0, false));
+    }
+
+    @Test
+    @Order(2)
+    void pushAndPopInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void popAndPeekOfEmptyStack() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    @Order(4)
+    void ofPutsLastElementOnTop() {
+        var letters = ArrayStack.of("a", "b", "c");
+
+        assertThat(letters.pop()).isEqualTo("c");
+        assertThat(letters.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    void stackGrowsAndShrinks() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertThat(stack.capacity()).isGreaterThanOrEqualTo(100);
+
+        for (int i = 99; i >= 5; i--) {
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.capacity()).isLessThan(40);
+
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertThat(stack.capacity()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    void stackWithoutShrinkingKeepsCapacity() {
+        var notShrinkable = new ArrayStack<Integer>(2, false);
+        for (int i = 0; i < 100; i++) {
+            notShrinkable.push(i);
+        }
+        int capacity = notShrinkable.capacity();
+
+        while (!notShrinkable.isEmpty()) {
+            notShrinkable.pop();
+        }
+
+        assertThat(notShrinkable.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    @Order(7)
+    void clear() {
+        stack.push(1);
+        stack.push(2);
+
+        stack.clear();
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.capacity()).isEqualTo(2);
+    }
+
+    /**
+     * Pushes elements up to a given depth and pops them back, like a depth-first search does. Every batch should be
+     * popped in reverse order, so both stacks give the same sum.
+     */
+    @Test
+    @Order(8)
+    void pushAndPopInBatches() {
+        long batches = (OPERATIONS + 2 * DEPTH - 1) / (2 * DEPTH);
+        long expectedSum = batches * DEPTH * (DEPTH - 1) / 2;
+
+        assertThat(runArrayStack()).isEqualTo(expectedSum);
+        assertThat(runIntStack()).isEqualTo(expectedSum);
+    }
+
+    private long runArrayStack() {
+        var testStack = new ArrayStack<Integer>();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+
+    private long runIntStack() {
+        var testStack = new IntStack();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntStackTest {
+
+    private final IntStack stack = new IntStack(2);
+
+    @Test
+    @Order(1)
+    void createStackWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntStack(0));
+    }
+
+    @Test
+    @Order(2)
+    void pushAndPopInLifoOrderAcrossGrowth() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.size()).isEqualTo(100);
+        assertThat(stack.peek()).isEqualTo(99);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void popAndPeekOfEmptyStack() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    @Order(4)
+    void ofAndClear() {
+        var ints = IntStack.of(1, 2, 3);
+        assertThat(ints.pop()).isEqualTo(3);
+        assertThat(ints.size()).isEqualTo(2);
+
+        ints.clear();
+
+        assertThat(ints.isEmpty()).isTrue();
+    }
+}
@@ -292,6 +292,63 @@ class LinkedStackTest {
         assertThat(stackEmpty).isEqualTo(true);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Stack with a node pool pushes and pops elements like a stack without it")
+    void pushAndPopWithNodePool() {
+        intStack = new LinkedStack<>(2);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 1; i <= 5; i++) {
+                intStack.push(i);
+            }
+
+            for (int i = 5; i >= 1; i--) {
+                assertThat(intStack.pop()).isEqualTo(i);
+            }
+            assertThat(intStack.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Stack can't be created with a negative node pool capacity")
+    void createStackWithNegativeNodePoolCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedStack<Integer>(-1));
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Stack with a node pool clears a popped node and reuses it on the next push")
+    @SneakyThrows
+    void pushReusesPoppedNode() {
+        intStack = new LinkedStack<>(2);
+        intStack.push(1);
+        intStack.push(2);
+        Object poppedNode = getHeadObject();
+
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(getNodeElementField(poppedNode).get(poppedNode)).isNull();
+        assertThat(getNodeNextObject(poppedNode)).isNull();
+
+        intStack.push(3);
+        assertThat(getHeadObject()).isSameAs(poppedNode);
+        assertThat(getNodeElementInt(poppedNode)).isEqualTo(3);
+        assertThat(getNodeElementInt(getNodeNextObject(poppedNode))).isEqualTo(1);
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Stack with a zero node pool capacity creates a new node on every push")
+    void pushDoesNotReuseNodeWithZeroNodePoolCapacity() {
+        intStack = new LinkedStack<>(0);
+        intStack.push(1);
+        Object poppedNode = getHeadObject();
+        intStack.pop();
+
+        intStack.push(2);
+        assertThat(getHeadObject()).isNotSameAs(poppedNode);
+    }
+
     private Class<?> getInnerClass() {
         return Arrays.stream(LinkedStack.class.getDeclaredClasses())
                 .filter(Class::isMemberClass)
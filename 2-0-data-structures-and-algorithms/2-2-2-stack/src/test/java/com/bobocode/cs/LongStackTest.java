@@ -0,0 +1,58 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongStackTest {
+    private static final long BASE = 1L << 40;
+
+    private final LongStack stack = new LongStack(2);
+
+    @Test
+    @Order(1)
+    void createStackWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new LongStack(0));
+    }
+
+    @Test
+    @Order(2)
+    void pushAndPopInLifoOrderAcrossGrowth() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(BASE + i);
+        }
+
+        assertThat(stack.size()).isEqualTo(100);
+        assertThat(stack.peek()).isEqualTo(BASE + 99);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(stack.pop()).isEqualTo(BASE + i);
+        }
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void popAndPeekOfEmptyStack() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    @Order(4)
+    void ofAndClear() {
+        var longs = LongStack.of(1L, 2L, Long.MAX_VALUE);
+        assertThat(longs.pop()).isEqualTo(Long.MAX_VALUE);
+        assertThat(longs.size()).isEqualTo(2);
+
+        longs.clear();
+
+        assertThat(longs.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,166 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks of stacks. They print their measurements instead of checking them, because timings depend on the
+ * machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StackBenchmark {
+    private static final int OPERATIONS = 10_000_000;
+    private static final int DEPTH = 1_000;
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 1_000_000;
+
+    /**
+     * Pushes elements up to a given depth and pops them back, like a depth-first search does.
+     * {@link LinkedStack} of this repository is an exercise, so {@link LinkedList} is used as a linked stack instead.
+     */
+    @Test
+    @Order(1)
+    void arrayStackThroughput() {
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            runArrayStack();
+            runIntStack();
+            runArrayDeque();
+            runLinkedList();
+        }
+
+        var startTime = System.nanoTime();
+        long arrayStackSum = runArrayStack();
+        var arrayStackNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long intStackSum = runIntStack();
+        var intStackNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long arrayDequeSum = runArrayDeque();
+        var arrayDequeNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long linkedListSum = runLinkedList();
+        var linkedListNanos = System.nanoTime() - startTime;
+
+        System.out.printf("%d push + pop: ArrayStack %d ms, IntStack %d ms, ArrayDeque %d ms, linked stack %d ms%n",
+                OPERATIONS, arrayStackNanos / 1_000_000, intStackNanos / 1_000_000, arrayDequeNanos / 1_000_000,
+                linkedListNanos / 1_000_000);
+
+        assertThat(intStackSum).isEqualTo(arrayStackSum);
+        assertThat(arrayDequeSum).isEqualTo(arrayStackSum);
+        assertThat(linkedListSum).isEqualTo(arrayStackSum);
+    }
+
+    private long runArrayStack() {
+        var testStack = new ArrayStack<Integer>();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+
+    private long runIntStack() {
+        var testStack = new IntStack();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+
+    private long runArrayDeque() {
+        var testStack = new ArrayDeque<Integer>();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+
+    private long runLinkedList() {
+        var testStack = new LinkedList<Integer>();
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += 2 * DEPTH) {
+            for (int j = 0; j < DEPTH; j++) {
+                testStack.push(j);
+            }
+            for (int j = 0; j < DEPTH; j++) {
+                sum += testStack.pop();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Runs threads that push and pop the same stack at the same time, with and without an elimination array, and
+     * prints the time and the number of push and pop pairs that met in the elimination array instead of the head.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    @Order(2)
+    @SneakyThrows
+    void treiberStackElimination(int eliminationSlots) {
+        var testStack = new TreiberStack<Integer>(eliminationSlots);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        var barrier = new CyclicBarrier(THREADS + 1);
+        var futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    testStack.push(i);
+                    testStack.pop();
+                }
+                return null;
+            }));
+        }
+        barrier.await();
+        var startTime = System.nanoTime();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        var nanos = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        System.out.printf("%d threads, %d elimination slots: %d push + pop in %d ms, %d eliminated pairs%n",
+                THREADS, eliminationSlots, THREADS * ELEMENTS_PER_THREAD, nanos / 1_000_000,
+                testStack.eliminationCount());
+        assertThat(testStack.isEmpty()).isTrue();
+    }
+}
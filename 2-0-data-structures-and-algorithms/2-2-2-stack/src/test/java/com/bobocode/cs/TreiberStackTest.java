@@ -0,0 +1,206 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TreiberStackTest {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 100_000;
+    private static final int HISTORIES = 2_000;
+    private static final int OPERATIONS_PER_THREAD = 3;
+
+    private final TreiberStack<Integer> stack = new TreiberStack<>();
+
+    /**
+     * An operation of a concurrent history. Start and end are ticks of a shared counter taken right before the
+     * invocation and right after the response, so an operation A happened before B if A.end < B.start.
+     */
+    private record Operation(boolean push, int value, Integer result, long start, long end) {
+    }
+
+    @Test
+    @Order(1)
+    void createStackWithWrongEliminationSlots() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new TreiberStack<>(-1));
+    }
+
+    @Test
+    @Order(2)
+    void pushAndPopInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.tryPop()).isEqualTo(1);
+        assertThat(stack.tryPop()).isNull();
+        assertThat(stack.size()).isZero();
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void popOfEmptyStackAndNullElements() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> stack.push(null));
+    }
+
+    /**
+     * Every thread pushes its own elements and pops the same number of elements. Every element should be popped
+     * exactly once, no matter whether it went through the head or through the elimination array.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    @Order(4)
+    @SneakyThrows
+    void everyPushedElementIsPoppedExactlyOnce(int eliminationSlots) {
+        var testStack = new TreiberStack<Integer>(eliminationSlots);
+        var popped = new AtomicIntegerArray(THREADS * ELEMENTS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        var barrier = new CyclicBarrier(THREADS);
+        var futures = new ArrayList<Future<?>>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    testStack.push(thread * ELEMENTS_PER_THREAD + i);
+                    if (i % 2 == 1) {
+                        popped.incrementAndGet(testStack.pop());
+                        popped.incrementAndGet(testStack.pop());
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(testStack.isEmpty()).isTrue();
+        if (eliminationSlots == 0) {
+            assertThat(testStack.eliminationCount()).isZero();
+        }
+        for (int i = 0; i < popped.length(); i++) {
+            assertThat(popped.get(i)).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Runs a lot of short concurrent histories and checks every one of them for linearizability: there must be an
+     * order of the operations that keeps the real-time order and gives the same results on a sequential stack.
+     */
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void historiesAreLinearizable() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        var barrier = new CyclicBarrier(THREADS);
+        var clock = new AtomicLong();
+
+        for (int h = 0; h < HISTORIES; h++) {
+            var testStack = new TreiberStack<Integer>(1);
+            int initialSize = h % 3;
+            for (int i = 0; i < initialSize; i++) {
+                testStack.push(-1 - i);
+            }
+            var futures = new ArrayList<Future<List<Operation>>>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    var operations = new ArrayList<Operation>();
+                    barrier.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        if (ThreadLocalRandom.current().nextBoolean()) {
+                            int value = thread * OPERATIONS_PER_THREAD + i;
+                            long start = clock.incrementAndGet();
+                            testStack.push(value);
+                            operations.add(new Operation(true, value, null, start, clock.incrementAndGet()));
+                        } else {
+                            long start = clock.incrementAndGet();
+                            Integer result = testStack.tryPop();
+                            operations.add(new Operation(false, 0, result, start, clock.incrementAndGet()));
+                        }
+                    }
+                    return operations;
+                }));
+            }
+            var history = new ArrayList<Operation>();
+            for (Future<List<Operation>> future : futures) {
+                history.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+            var initialStack = new ArrayDeque<Integer>();
+            for (int i = 0; i < initialSize; i++) {
+                initialStack.push(-1 - i);
+            }
+
+            assertThat(isLinearizable(history, initialStack))
+                    .as("history %s is linearizable", history)
+                    .isTrue();
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Tries every operation that can go first, that is, an operation that did not start after another remaining
+     * operation had ended, applies it to a sequential stack and checks the rest recursively.
+     */
+    private boolean isLinearizable(List<Operation> remaining, Deque<Integer> sequentialStack) {
+        if (remaining.isEmpty()) {
+            return true;
+        }
+        long firstEnd = remaining.stream().mapToLong(Operation::end).min().orElseThrow();
+        for (Operation operation : remaining) {
+            if (operation.start() > firstEnd) {
+                continue;
+            }
+            var rest = new ArrayList<>(remaining);
+            rest.remove(operation);
+            if (operation.push()) {
+                sequentialStack.push(operation.value());
+                if (isLinearizable(rest, sequentialStack)) {
+                    return true;
+                }
+                sequentialStack.pop();
+            } else if (Objects.equals(sequentialStack.peek(), operation.result())) {
+                Integer top = sequentialStack.poll();
+                if (isLinearizable(rest, sequentialStack)) {
+                    return true;
+                }
+                if (top != null) {
+                    sequentialStack.push(top);
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ArrayQueue} implements FIFO {@link Queue} using a ring buffer. Elements are stored in an array, and the head
+ * and the tail are counters that only grow. The position of an element in the array is its counter with a bit mask
+ * applied, because the capacity is always a power of two. So {@link ArrayQueue#add(Object)} and
+ * {@link ArrayQueue#poll()} don't allocate anything and don't shift elements, and the elements that are polled one
+ * after another lie next to each other in memory.
+ * <p>
+ * A growable queue doubles its array when it is full. A bounded queue never grows: {@link ArrayQueue#offer(Object)}
+ * returns false and {@link ArrayQueue#add(Object)} throws {@link IllegalStateException} when it is full.
+ * <p>
+ * The queue does not accept null elements, because null is returned by {@link ArrayQueue#poll()} when the queue is
+ * empty.
+ *
+ * @param <T> element type
+ */
+public class ArrayQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final boolean growable;
+    private Object[] elements;
+    private int mask;
+    private int head;
+    private int tail;
+
+    /**
+     * Creates a growable queue with a default initial capacity.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Creates a queue with a given capacity.
+     *
+     * @param capacity a number of elements that fit the queue, it is rounded up to the closest power of two
+     * @param growable if true, the queue doubles its capacity when it is full, otherwise the queue is bounded
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public ArrayQueue(int capacity, boolean growable) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int roundedCapacity = capacity >= MAXIMUM_CAPACITY
+                ? MAXIMUM_CAPACITY
+                : Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+        this.elements = new Object[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+        this.growable = growable;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is bounded and full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full: " + capacity());
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is space for it. A growable queue always has space, unless it
+     * reached the maximum capacity.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        if (tail - head == elements.length) {
+            if (!growable || elements.length == MAXIMUM_CAPACITY) {
+                return false;
+            }
+            grow();
+        }
+        elements[tail & mask] = element;
+        tail++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (head == tail) {
+            return null;
+        }
+        int index = head & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        head++;
+        return element;
+    }
+
+    /**
+     * Retrieves, but does not remove the queue head.
+     *
+     * @return the head element or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return (T) elements[head & mask];
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and passes them to a consumer in FIFO
+     * order. The head is moved once for the whole batch. An element is removed only after the consumer has accepted
+     * it, so if the consumer throws an exception, the element it was given and all the following ones stay in the
+     * queue.
+     *
+     * @param consumer    receives the removed elements
+     * @param maxElements max number of elements to remove
+     * @return a number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = Math.min(maxElements, tail - head);
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int index = (head + drained) & mask;
+                consumer.accept((T) elements[index]);
+                elements[index] = null;
+                drained++;
+            }
+        } finally {
+            head += drained;
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        return tail - head;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * @return a number of elements that fit the queue before it grows or becomes full
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Copies the elements to an array that is twice as big. The head element is moved to the beginning of the new
+     * array, so the elements that were wrapped around the end of the old array are placed after the other ones.
+     */
+    private void grow() {
+        int size = tail - head;
+        int headIndex = head & mask;
+        Object[] newElements = new Object[elements.length << 1];
+        int firstRun = elements.length - headIndex;
+        System.arraycopy(elements, headIndex, newElements, 0, firstRun);
+        System.arraycopy(elements, 0, newElements, firstRun, headIndex);
+        elements = newElements;
+        mask = newElements.length - 1;
+        head = 0;
+        tail = size;
+    }
+}
@@ -0,0 +1,259 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link BlockingArrayQueue} is a thread-safe bounded FIFO {@link Queue} that throttles producers when consumers fall
+ * behind. When the queue is full, {@link BlockingArrayQueue#put(Object)} waits until a consumer takes an element, and
+ * when the queue is empty, {@link BlockingArrayQueue#take()} waits until a producer adds one. There are also timed
+ * versions of these methods, and non-blocking {@link BlockingArrayQueue#add(Object)} and
+ * {@link BlockingArrayQueue#poll()} of {@link Queue}.
+ * <p>
+ * The elements are stored in an {@link ArrayQueue} that is guarded by one lock. How a thread waits is defined by a
+ * {@link WaitStrategy}, so the same queue can park threads to save CPU or spin to get a lower latency. The number of
+ * elements is also kept in a volatile field, so spinning threads and {@link BlockingArrayQueue#size()} read it
+ * without the lock.
+ * <p>
+ * {@link BlockingArrayQueue#drainTo(Collection, int)} takes a batch of elements under the lock once, so a consumer
+ * that processes elements in batches takes the lock once per batch instead of once per element.
+ *
+ * @param <T> element type
+ */
+public class BlockingArrayQueue<T> implements Queue<T> {
+    private final ArrayQueue<T> elements;
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private volatile int count;
+    private final BooleanSupplier hasElements = () -> count > 0;
+    private final BooleanSupplier hasSpace;
+
+    /**
+     * Creates a queue that parks waiting threads.
+     *
+     * @param capacity max number of elements in the queue
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BlockingArrayQueue(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Creates a queue with a given wait strategy.
+     *
+     * @param capacity     max number of elements in the queue
+     * @param waitStrategy defines how threads wait when the queue is full or empty
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BlockingArrayQueue(int capacity, WaitStrategy waitStrategy) {
+        this.elements = new ArrayQueue<>(capacity, false);
+        this.capacity = capacity;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.hasSpace = () -> count < capacity;
+    }
+
+    /**
+     * Adds an element to the end of the queue without waiting.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full: " + capacity);
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (elements.size() == capacity) {
+                return false;
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to a given time if the queue is full.
+     *
+     * @param element the element to add
+     * @param timeout max time to wait
+     * @param unit    time unit of the timeout
+     * @return true if the element was added, false if the time is out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = waitStrategy.await(lock, notFull, hasSpace, nanos);
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting as long as the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() == capacity) {
+                waitStrategy.await(lock, notFull, hasSpace, Long.MAX_VALUE);
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head without waiting.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return elements.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to a given time if the queue is empty.
+     *
+     * @param timeout max time to wait
+     * @param unit    time unit of the timeout
+     * @return an element that was retrieved from the head or null if the time is out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = waitStrategy.await(lock, notEmpty, hasElements, nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting as long as the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                waitStrategy.await(lock, notEmpty, hasElements, Long.MAX_VALUE);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and adds them to a collection in FIFO
+     * order. It does not wait, and takes the lock only once. If the collection rejects an element by throwing an
+     * exception (e.g. a bounded collection is full), the exception is rethrown, and the rejected element and all the
+     * following ones stay in the queue.
+     *
+     * @param collection  a collection to add the elements to
+     * @param maxElements max number of elements to remove
+     * @return a number of removed elements
+     */
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        lock.lock();
+        int sizeBefore = elements.size();
+        try {
+            return elements.drainTo(collection::add, maxElements);
+        } finally {
+            if (elements.size() < sizeBefore) {
+                count = elements.size();
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return max number of elements in the queue
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return a number of elements that can be added without waiting
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    private void enqueue(T element) {
+        elements.add(element);
+        count = elements.size();
+        notEmpty.signal();
+    }
+
+    private T dequeue() {
+        T element = elements.poll();
+        count = elements.size();
+        notFull.signal();
+        return element;
+    }
+}
@@ -6,6 +6,9 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
  * in a constant time, it keeps to references to the head and tail of the queue.
+ * <p>
+ * A queue that is created with {@link LinkedQueue#LinkedQueue(int)} reuses the nodes of polled elements via
+ * {@link NodePool}, so a queue that passes millions of messages does not allocate a node per message.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -16,6 +19,21 @@ import com.bobocode.util.ExerciseNotCompletedException;
  */
 public class LinkedQueue<T> implements Queue<T> {
 
+    public LinkedQueue() {
+    }
+
+    /**
+     * Creates a queue that keeps up to {@code nodePoolCapacity} polled nodes in a {@link NodePool}. The method
+     * {@link LinkedQueue#poll()} clears the element and the next reference of a polled node and releases it to the
+     * pool, and {@link LinkedQueue#add(Object)} acquires a node from the pool instead of creating a new one.
+     *
+     * @param nodePoolCapacity max number of nodes kept for reuse, 0 means that nodes are never reused
+     * @throws IllegalArgumentException if node pool capacity is negative
+     */
+    public LinkedQueue(int nodePoolCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * Adds an element to the end of the queue.
      *
@@ -0,0 +1,141 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LockFreeQueue} is a thread-safe FIFO {@link Queue} that can be used by many producers and many consumers at
+ * the same time without any lock. It is the Michael-Scott queue: singly linked nodes with a head that always points to
+ * a dummy node, and a tail that points to the last node or to the one before it.
+ * <ul>
+ *     <li>{@link LockFreeQueue#add(Object)} links a new node after the last one using compare-and-set of its next
+ *     reference, and then moves the tail</li>
+ *     <li>{@link LockFreeQueue#poll()} moves the head to the next node using compare-and-set, and the next node becomes
+ *     a new dummy node</li>
+ * </ul>
+ * If a thread sees that the tail is behind, it moves the tail itself instead of waiting, so a thread that is
+ * suspended in the middle of an operation never blocks other threads.
+ * <p>
+ * Producers change the tail and consumers change the head all the time. The head and the tail are kept in padded
+ * references, so they never share a cache line and a producer does not invalidate the cache line of a consumer.
+ * <p>
+ * The queue does not accept null elements, because null is returned by {@link LockFreeQueue#poll()} when the queue is
+ * empty. The size is kept in a {@link LongAdder}, so it is exact only when no other thread changes the queue.
+ *
+ * @param <T> element type
+ */
+public class LockFreeQueue<T> implements Queue<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    private final PaddedReference<Node<T>> head;
+    private final PaddedReference<Node<T>> tail;
+    private final LongAdder size = new LongAdder();
+
+    private static class Node<T> {
+        T element;
+        volatile Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * An atomic reference that takes at least a whole cache line. The padding fields are placed after the value, and
+     * the object header of the reference is placed before it, so two padded references never have their values in
+     * the same 64-byte line.
+     */
+    @SuppressWarnings("unused")
+    private static class PaddedReference<V> extends AtomicReference<V> {
+        private static final long serialVersionUID = 1L;
+
+        long p1, p2, p3, p4, p5, p6, p7;
+
+        PaddedReference(V value) {
+            super(value);
+        }
+    }
+
+    public LockFreeQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = new PaddedReference<>(dummy);
+        tail = new PaddedReference<>(dummy);
+    }
+
+    /**
+     * Adds an element to the end of the queue. It never blocks, and retries only if another producer has linked its
+     * node first.
+     *
+     * @param element the element to add
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        while (true) {
+            Node<T> last = tail.get();
+            Node<T> next = last.next;
+            if (last != tail.get()) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    tail.compareAndSet(last, newNode);
+                    size.increment();
+                    return;
+                }
+            } else {
+                tail.compareAndSet(last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head. It never blocks, and retries only if another consumer has taken the head first.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> dummy = head.get();
+            Node<T> last = tail.get();
+            Node<T> first = dummy.next;
+            if (dummy != head.get()) {
+                continue;
+            }
+            if (first == null) {
+                return null;
+            }
+            if (dummy == last) {
+                tail.compareAndSet(last, first);
+            } else if (head.compareAndSet(dummy, first)) {
+                T element = first.element;
+                first.element = null;
+                size.decrement();
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. It is a sum of counters that are changed after the elements are added or removed,
+     * so under concurrent changes it's an estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+}
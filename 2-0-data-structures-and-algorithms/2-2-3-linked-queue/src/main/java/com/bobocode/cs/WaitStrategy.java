@@ -0,0 +1,87 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link WaitStrategy} defines how a thread of {@link BlockingArrayQueue} waits until the queue is not full or not
+ * empty. It trades CPU for latency:
+ * <ul>
+ *     <li>{@link WaitStrategy#PARK} parks a thread until it is signalled, so a waiting thread does not use CPU, but it
+ *     takes microseconds to wake it up</li>
+ *     <li>{@link WaitStrategy#spinThenYield(int)} checks the queue again and again for a number of attempts, and then
+ *     yields the CPU to other threads between attempts</li>
+ *     <li>{@link WaitStrategy#BUSY_SPIN} checks the queue in a loop, so it reacts to a change as fast as possible, but
+ *     takes a whole CPU core. It should be used only when there are more cores than busy threads</li>
+ * </ul>
+ * The queue calls {@link WaitStrategy#await(ReentrantLock, Condition, BooleanSupplier, long)} while holding the lock,
+ * and checks the queue again after every call. Spinning strategies release the lock and spin on a check that reads
+ * a volatile counter of the queue, so they don't touch the lock that other threads need to change the queue. The lock
+ * is taken again only when the queue looks ready.
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+    int DEFAULT_SPINS = 100;
+
+    WaitStrategy PARK = (lock, condition, ready, nanos) -> condition.awaitNanos(nanos);
+
+    WaitStrategy BUSY_SPIN = (lock, condition, ready, nanos) -> spin(lock, ready, nanos, Long.MAX_VALUE);
+
+    /**
+     * Waits once. It is called with the lock held and must return with the lock held, but it may release the lock
+     * while waiting. It may return before the queue is ready, so the caller checks the queue under the lock again.
+     *
+     * @param lock      the lock of the queue
+     * @param condition the condition that is signalled when the queue changes
+     * @param ready     a check that can be called without the lock, it returns true when the queue looks ready
+     * @param nanos     max time to wait
+     * @return an estimate of the remaining time, a value that is not positive means that the time is out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    long await(ReentrantLock lock, Condition condition, BooleanSupplier ready, long nanos) throws InterruptedException;
+
+    /**
+     * Creates a strategy that spins for a given number of attempts and then yields between attempts.
+     *
+     * @param spins a number of attempts before the thread starts yielding
+     * @return a new strategy
+     */
+    static WaitStrategy spinThenYield(int spins) {
+        if (spins < 0) {
+            throw new IllegalArgumentException("Spins must not be negative: " + spins);
+        }
+        return (lock, condition, ready, nanos) -> spin(lock, ready, nanos, spins);
+    }
+
+    /**
+     * @return a strategy that spins {@link WaitStrategy#DEFAULT_SPINS} times and then yields
+     */
+    static WaitStrategy spinThenYield() {
+        return spinThenYield(DEFAULT_SPINS);
+    }
+
+    private static long spin(ReentrantLock lock, BooleanSupplier ready, long nanos, long spins)
+            throws InterruptedException {
+        long startTime = System.nanoTime();
+        lock.unlock();
+        try {
+            for (long attempt = 0; !ready.getAsBoolean(); attempt++) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (nanos - (System.nanoTime() - startTime) <= 0) {
+                    break;
+                }
+                if (attempt < spins) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        } finally {
+            lock.lock();
+        }
+        return nanos - (System.nanoTime() - startTime);
+    }
+}
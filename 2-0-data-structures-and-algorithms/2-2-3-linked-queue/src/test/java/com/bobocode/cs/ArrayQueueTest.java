@@ -0,0 +1,193 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayQueueTest {
+    private static final int OPERATIONS = 5_000_000;
+    private static final int BATCH = 256;
+
+    private final ArrayQueue<Integer> queue = new ArrayQueue<>(4, false);
+
+    @Test
+    @Order(1)
+    void createQueueWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayQueue<>(0, true));
+    }
+
+    @Test
+    @Order(2)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new ArrayQueue<>(1000, false).capacity()).isEqualTo(1024);
+        assertThat(new ArrayQueue<>(1, false).capacity()).isEqualTo(1);
+        assertThat(new ArrayQueue<>().capacity()).isEqualTo(16);
+    }
+
+    @Test
+    @Order(3)
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    void elementsWrapAroundTheEndOfArray() {
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(i + 1000);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 1000);
+        }
+
+        assertThat(queue.capacity()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(5)
+    void boundedQueueRejectsElementsWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+
+        assertThat(queue.offer(4)).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(4));
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(6)
+    void growableQueueKeepsOrderOfWrappedElements() {
+        var growableQueue = new ArrayQueue<Integer>(4, true);
+        growableQueue.add(-1);
+        growableQueue.add(-2);
+        growableQueue.poll();
+        growableQueue.poll();
+
+        for (int i = 0; i < 10; i++) {
+            growableQueue.add(i);
+        }
+
+        assertThat(growableQueue.capacity()).isEqualTo(16);
+        for (int i = 0; i < 10; i++) {
+            assertThat(growableQueue.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(7)
+    void nullElementsAreNotAccepted() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    @Order(8)
+    void drainToPassesElementsInFifoOrder() {
+        queue.add(1);
+        queue.poll();
+        queue.add(2);
+        queue.add(3);
+        queue.add(4);
+        var drained = new ArrayList<Integer>();
+
+        assertThat(queue.drainTo(drained::add, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(2, 3);
+        assertThat(queue.drainTo(drained::add, 10)).isEqualTo(1);
+        assertThat(drained).containsExactly(2, 3, 4);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.drainTo(drained::add, 10)).isZero();
+    }
+
+    @Test
+    @Order(9)
+    void randomOperationsMatchJavaUtilQueue() {
+        var arrayQueue = new ArrayQueue<Integer>(2, true);
+        var expected = new java.util.ArrayDeque<Integer>();
+        var random = new Random(9);
+
+        for (int i = 0; i < 100_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                arrayQueue.add(i);
+                expected.add(i);
+            } else if (operation < 9) {
+                assertThat(arrayQueue.poll()).isEqualTo(expected.poll());
+            } else {
+                var drained = new ArrayList<Integer>();
+                int max = random.nextInt(8);
+                arrayQueue.drainTo(drained::add, max);
+                for (Integer element : drained) {
+                    assertThat(element).isEqualTo(expected.poll());
+                }
+            }
+            assertThat(arrayQueue.size()).isEqualTo(expected.size());
+        }
+    }
+
+    /**
+     * Adds and polls batches of elements, so the head and the tail wrap around the end of the array again and again.
+     * A growable queue reuses the same slots and never grows when a batch fits its capacity.
+     */
+    @Test
+    @Order(10)
+    void batchesWrapAroundWithoutGrowing() {
+        var arrayQueue = new ArrayQueue<Integer>(BATCH, true);
+
+        long sum = runArrayQueue(arrayQueue);
+
+        long batches = (OPERATIONS + BATCH - 1) / BATCH;
+        assertThat(sum).isEqualTo(batches * BATCH * (BATCH - 1) / 2);
+        assertThat(arrayQueue.capacity()).isEqualTo(BATCH);
+        assertThat(arrayQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(11)
+    void drainToKeepsElementsThatConsumerDidNotAccept() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        var drained = new ArrayBlockingQueue<Integer>(1);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.drainTo(drained::add, 10));
+
+        assertThat(drained).containsExactly(1);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+    }
+
+    private long runArrayQueue(ArrayQueue<Integer> arrayQueue) {
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += BATCH) {
+            for (int j = 0; j < BATCH; j++) {
+                arrayQueue.add(j);
+            }
+            for (int j = 0; j < BATCH; j++) {
+                sum += arrayQueue.poll();
+            }
+        }
+        return sum;
+    }
+}
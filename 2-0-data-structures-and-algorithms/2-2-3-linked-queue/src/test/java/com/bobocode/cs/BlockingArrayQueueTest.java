@@ -0,0 +1,237 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BlockingArrayQueueTest {
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+    private static final int PRODUCERS = 2;
+    private static final int CONSUMERS = 2;
+
+    private final BlockingArrayQueue<Integer> queue = new BlockingArrayQueue<>(3);
+
+    static Stream<Arguments> waitStrategies() {
+        return Stream.of(
+                Arguments.of("park", WaitStrategy.PARK),
+                Arguments.of("spin then yield", WaitStrategy.spinThenYield()),
+                Arguments.of("busy spin", WaitStrategy.BUSY_SPIN)
+        );
+    }
+
+    @Test
+    @Order(1)
+    void createQueueWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new BlockingArrayQueue<>(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> WaitStrategy.spinThenYield(-1));
+    }
+
+    @Test
+    @Order(2)
+    void capacityIsNotRoundedUp() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.capacity()).isEqualTo(3);
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThat(queue.offer(4)).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(4));
+    }
+
+    @Test
+    @Order(3)
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("waitStrategies")
+    @Order(4)
+    @SneakyThrows
+    void timedOfferAndPollReturnWhenTimeIsOut(String name, WaitStrategy waitStrategy) {
+        var timedQueue = new BlockingArrayQueue<Integer>(1, waitStrategy);
+        timedQueue.put(1);
+
+        var startTime = System.nanoTime();
+        assertThat(timedQueue.offer(2, 50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(timedQueue.take()).isEqualTo(1);
+        assertThat(timedQueue.poll(50, TimeUnit.MILLISECONDS)).isNull();
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void putWaitsUntilElementIsTaken() {
+        queue.put(1);
+        queue.put(2);
+        queue.put(3);
+        var putDone = new CountDownLatch(1);
+        var producer = new Thread(() -> {
+            try {
+                queue.put(4);
+                putDone.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(putDone.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.take()).isEqualTo(1);
+        assertThat(putDone.await(5, TimeUnit.SECONDS)).isTrue();
+        producer.join();
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void takeWaitsUntilElementIsAdded() {
+        var executor = Executors.newSingleThreadExecutor();
+        Future<Integer> taken = executor.submit(queue::take);
+
+        Thread.sleep(50);
+        assertThat(taken.isDone()).isFalse();
+        queue.add(42);
+
+        assertThat(taken.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        executor.shutdown();
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void waitingThreadCanBeInterrupted() {
+        var executor = Executors.newSingleThreadExecutor();
+        Future<Integer> taken = executor.submit(queue::take);
+        Thread.sleep(50);
+
+        executor.shutdownNow();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(taken.isDone()).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    void drainToAddsElementsToCollection() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        var drained = new ArrayList<Integer>();
+
+        assertThat(queue.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(queue.remainingCapacity()).isEqualTo(2);
+        assertThat(queue.drainTo(drained, 10)).isEqualTo(1);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(10)
+    void drainToKeepsElementsThatCollectionRejects() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        var drained = new ArrayBlockingQueue<Integer>(1);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.drainTo(drained, 10));
+
+        assertThat(drained).containsExactly(1);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.remainingCapacity()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+    }
+
+    /**
+     * Producers put elements into a small queue, so they are throttled all the time, and consumers take them in
+     * batches with drainTo or one by one with timed poll. Every element should be taken exactly once. Busy spin is
+     * skipped when there are fewer cores than threads, because then spinning threads take the CPU from the others.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("waitStrategies")
+    @Order(9)
+    @SneakyThrows
+    void producersAndConsumersWithWaitStrategy(String name, WaitStrategy waitStrategy) {
+        assumeTrue(waitStrategy != WaitStrategy.BUSY_SPIN
+                || Runtime.getRuntime().availableProcessors() >= PRODUCERS + CONSUMERS);
+        var testQueue = new BlockingArrayQueue<Integer>(64, waitStrategy);
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        var sum = new AtomicLong();
+        var count = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        var futures = new ArrayList<Future<?>>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    testQueue.put(i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            boolean batches = c % 2 == 0;
+            futures.add(executor.submit(() -> {
+                var batch = new ArrayList<Integer>();
+                while (count.get() < total) {
+                    batch.clear();
+                    if (!batches || testQueue.drainTo(batch, 16) == 0) {
+                        Integer element = testQueue.poll(10, TimeUnit.MILLISECONDS);
+                        if (element != null) {
+                            batch.add(element);
+                        }
+                    }
+                    for (Integer element : batch) {
+                        sum.addAndGet(element);
+                    }
+                    count.addAndGet(batch.size());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(count.get()).isEqualTo(total);
+        assertThat(sum.get()).isEqualTo((long) PRODUCERS * ELEMENTS_PER_PRODUCER * (ELEMENTS_PER_PRODUCER - 1) / 2);
+        assertThat(testQueue.isEmpty()).isTrue();
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * A reflection-based test class for {@link LinkedQueue}.
@@ -220,6 +221,62 @@ public class LinkedQueueTest {
         assertThat(isEmpty).isEqualTo(false);
     }
 
+    @Test
+    @Order(16)
+    void addAndPollWithNodePool() {
+        var pooledQueue = new LinkedQueue<Integer>(2);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5; i++) {
+                pooledQueue.add(i);
+            }
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(pooledQueue.poll()).isEqualTo(i);
+            }
+            assertThat(pooledQueue.poll()).isNull();
+            assertThat(pooledQueue.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    @Order(17)
+    void createQueueWithNegativeNodePoolCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LinkedQueue<Integer>(-1));
+    }
+
+    @Test
+    @Order(18)
+    @SneakyThrows
+    void addReusesPolledNode() {
+        integerQueue = new LinkedQueue<>(2);
+        integerQueue.add(1);
+        integerQueue.add(2);
+        Object polledNode = getAccessibleFieldByPredicate(integerQueue, HEAD_FIELD).get(integerQueue);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(getAccessibleFieldByPredicate(polledNode, ELEMENT_FIELD).get(polledNode)).isNull();
+        assertThat(getAccessibleFieldByPredicate(polledNode, NEXT_FIELD).get(polledNode)).isNull();
+
+        integerQueue.add(3);
+        assertThat(getAccessibleFieldByPredicate(integerQueue, TAIL_FIELD).get(integerQueue)).isSameAs(polledNode);
+        assertThat(getAccessibleFieldByPredicate(polledNode, ELEMENT_FIELD).get(polledNode)).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(19)
+    @SneakyThrows
+    void addDoesNotReuseNodeWithZeroNodePoolCapacity() {
+        integerQueue = new LinkedQueue<>(0);
+        integerQueue.add(1);
+        Object polledNode = getAccessibleFieldByPredicate(integerQueue, HEAD_FIELD).get(integerQueue);
+        integerQueue.poll();
+
+        integerQueue.add(2);
+        assertThat(getAccessibleFieldByPredicate(integerQueue, TAIL_FIELD).get(integerQueue)).isNotSameAs(polledNode);
+    }
+
 
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
@@ -0,0 +1,113 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeQueueTest {
+    private static final int ELEMENTS_PER_PRODUCER = 200_000;
+    private static final int THREADS = 4;
+
+    private final LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+
+    @Test
+    @Order(1)
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.isEmpty()).isFalse();
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.size()).isZero();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void nullElementsAreNotAccepted() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> queue.add(null));
+    }
+
+    /**
+     * Every producer adds an increasing sequence of its own elements, and consumers poll until all the elements are
+     * taken. Every element should be taken exactly once, and every consumer should see the elements of one producer
+     * in the order they were added.
+     */
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 4", "4, 1", "4, 4"})
+    @Order(3)
+    @SneakyThrows
+    void concurrentProducersAndConsumers(int producers, int consumers) {
+        int total = producers * ELEMENTS_PER_PRODUCER;
+        var taken = new AtomicIntegerArray(total);
+        var consumed = new AtomicInteger();
+        var startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        var futures = new ArrayList<Future<?>>();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    queue.add(producer * ELEMENTS_PER_PRODUCER + i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                var lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                while (consumed.get() < total) {
+                    Integer element = queue.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    int producer = element / ELEMENTS_PER_PRODUCER;
+                    assertThat(element % ELEMENTS_PER_PRODUCER).isGreaterThan(lastSeen[producer]);
+                    lastSeen[producer] = element % ELEMENTS_PER_PRODUCER;
+                    taken.incrementAndGet(element);
+                    consumed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < total; i++) {
+            assertThat(taken.get(i)).isEqualTo(1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+}
@@ -0,0 +1,204 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Benchmarks of queues. They print their measurements instead of checking them, because timings depend on the
+ * machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueueBenchmark {
+    private static final int OPERATIONS = 5_000_000;
+    private static final int BATCH = 256;
+    private static final int ELEMENTS_PER_PRODUCER = 200_000;
+    private static final int THREADS = 4;
+    private static final int BLOCKING_THREADS = 2;
+
+    /**
+     * Compares the ring buffer with linked nodes on a producer/consumer buffering workload: batches of elements are
+     * added and then polled. {@link LinkedQueue} of this repository is an exercise, so {@link LinkedList} is used as
+     * a linked queue instead.
+     */
+    @Test
+    @Order(1)
+    void arrayQueueThroughput() {
+        var arrayQueue = new ArrayQueue<Integer>(BATCH, false);
+        var linkedQueue = new LinkedList<Integer>();
+        runArrayQueue(arrayQueue);
+        runLinkedQueue(linkedQueue);
+
+        var startTime = System.nanoTime();
+        long arraySum = runArrayQueue(arrayQueue);
+        var arrayNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long linkedSum = runLinkedQueue(linkedQueue);
+        var linkedNanos = System.nanoTime() - startTime;
+        System.out.printf("%d add + poll: ArrayQueue %d ms, linked queue %d ms%n",
+                OPERATIONS, arrayNanos / 1_000_000, linkedNanos / 1_000_000);
+
+        assertThat(arraySum).isEqualTo(linkedSum);
+    }
+
+    private long runArrayQueue(ArrayQueue<Integer> arrayQueue) {
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += BATCH) {
+            for (int j = 0; j < BATCH; j++) {
+                arrayQueue.add(j);
+            }
+            for (int j = 0; j < BATCH; j++) {
+                sum += arrayQueue.poll();
+            }
+        }
+        return sum;
+    }
+
+    private long runLinkedQueue(LinkedList<Integer> linkedQueue) {
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i += BATCH) {
+            for (int j = 0; j < BATCH; j++) {
+                linkedQueue.add(j);
+            }
+            for (int j = 0; j < BATCH; j++) {
+                sum += linkedQueue.poll();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Compares the lock-free queue with a linked queue that is guarded by a global lock, when producers and
+     * consumers work at the same time. {@link LinkedQueue} of this repository is an exercise, so {@link LinkedList}
+     * is used as a linked queue instead.
+     */
+    @Test
+    @Order(2)
+    void lockFreeQueueThroughput() {
+        var lockedQueue = new LinkedList<Integer>();
+        Queue<Integer> synchronizedQueue = new Queue<>() {
+            @Override
+            public synchronized void add(Integer element) {
+                lockedQueue.add(element);
+            }
+
+            @Override
+            public synchronized Integer poll() {
+                return lockedQueue.poll();
+            }
+
+            @Override
+            public synchronized int size() {
+                return lockedQueue.size();
+            }
+
+            @Override
+            public synchronized boolean isEmpty() {
+                return lockedQueue.isEmpty();
+            }
+        };
+
+        var lockFreeNanos = runProducersAndConsumers(new LockFreeQueue<>());
+        var lockedNanos = runProducersAndConsumers(synchronizedQueue);
+        System.out.printf("%d threads, %d elements: LockFreeQueue %d ms, synchronized linked queue %d ms%n",
+                2 * THREADS, THREADS * ELEMENTS_PER_PRODUCER, lockFreeNanos / 1_000_000, lockedNanos / 1_000_000);
+    }
+
+    @SneakyThrows
+    private long runProducersAndConsumers(Queue<Integer> testQueue) {
+        ExecutorService executor = Executors.newFixedThreadPool(2 * THREADS);
+        var consumed = new AtomicInteger();
+        var startLatch = new CountDownLatch(1);
+        var futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    testQueue.add(i);
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                while (consumed.get() < THREADS * ELEMENTS_PER_PRODUCER) {
+                    if (testQueue.poll() != null) {
+                        consumed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        var startTime = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        var nanos = System.nanoTime() - startTime;
+        executor.shutdown();
+        assertThat(testQueue.isEmpty()).isTrue();
+        return nanos;
+    }
+
+    /**
+     * Measures how fast elements go through a small {@link BlockingArrayQueue} with every wait strategy, when
+     * producers put elements one by one and consumers take them one by one, so threads wait on the queue all the time.
+     * Busy spin is skipped when there are fewer cores than threads.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.bobocode.cs.BlockingArrayQueueTest#waitStrategies")
+    @Order(3)
+    @SneakyThrows
+    void blockingArrayQueueWaitStrategies(String name, WaitStrategy waitStrategy) {
+        assumeTrue(waitStrategy != WaitStrategy.BUSY_SPIN
+                || Runtime.getRuntime().availableProcessors() >= 2 * BLOCKING_THREADS);
+        var testQueue = new BlockingArrayQueue<Integer>(64, waitStrategy);
+        ExecutorService executor = Executors.newFixedThreadPool(2 * BLOCKING_THREADS);
+        var sum = new AtomicLong();
+        var futures = new ArrayList<Future<?>>();
+        var startTime = System.nanoTime();
+        for (int t = 0; t < BLOCKING_THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    testQueue.put(i);
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    sum.addAndGet(testQueue.take());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        var nanos = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        System.out.printf("%s: %d elements through a queue of 64 in %d ms%n",
+                name, BLOCKING_THREADS * ELEMENTS_PER_PRODUCER, nanos / 1_000_000);
+        assertThat(sum.get())
+                .isEqualTo((long) BLOCKING_THREADS * ELEMENTS_PER_PRODUCER * (ELEMENTS_PER_PRODUCER - 1) / 2);
+    }
+}
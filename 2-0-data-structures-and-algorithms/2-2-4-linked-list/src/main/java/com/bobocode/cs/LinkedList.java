@@ -3,9 +3,22 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
+ * <p>
+ * Finding a node by index takes O(n) time, so a loop like {@code for (i = 0; i < size; i++) list.get(i)} takes O(n^2).
+ * That's why the list caches the last accessed node and its index (a <em>finger</em>). When a node is searched by
+ * index, the traversal starts from the head, the tail (for the last index) or the finger, whichever is closest and
+ * does not require moving backwards. It makes sequential access amortized O(1). Every operation that adds or removes
+ * a node before or at the finger index should move or reset the finger.
+ * <p>
+ * A list that is created with {@link LinkedList#LinkedList(int)} reuses the nodes of removed elements via
+ * {@link NodePool}, so a list that is used as a queue or a buffer does not allocate a node per added element.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -16,6 +29,21 @@ import com.bobocode.util.ExerciseNotCompletedException;
  */
 public class LinkedList<T> implements List<T> {
 
+    public LinkedList() {
+    }
+
+    /**
+     * Creates a list that keeps up to {@code nodePoolCapacity} removed nodes in a {@link NodePool}. Every method that
+     * unlinks a node (remove, removeRange, removeIf, clear) clears its element and next reference and releases it to
+     * the pool, and every method that adds an element acquires a node from the pool instead of creating a new one.
+     *
+     * @param nodePoolCapacity max number of nodes kept for reuse, 0 means that nodes are never reused
+     * @throws IllegalArgumentException if node pool capacity is negative
+     */
+    public LinkedList(int nodePoolCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * This method creates a list of provided elements
      *
@@ -52,6 +80,8 @@ public class LinkedList<T> implements List<T> {
     /**
      * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
      * throws {@link IndexOutOfBoundsException}
+     * <p>
+     * It finds a node using the cached finger, and then moves the finger to that node.
      *
      * @param index   an position of element to change
      * @param element a new element value
@@ -64,6 +94,10 @@ public class LinkedList<T> implements List<T> {
     /**
      * Retrieves an elements by its position index. In case provided index in out of the list bounds it
      * throws {@link IndexOutOfBoundsException}
+     * <p>
+     * It starts the search from the finger if the finger index is not greater than a given index, or from the head
+     * otherwise. The last element is taken from the tail. Then it moves the finger to the found node, so the next call
+     * with index + 1 takes one step.
      *
      * @param index element index
      * @return an element value
@@ -145,4 +179,89 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Inserts all the given elements starting from a specific position. It finds the node before the position only
+     * once, creates a chain of new nodes, and links it between that node and the next one, so it takes O(index + n)
+     * time instead of O(index * n). In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index    a position of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all the elements with index in the range [fromIndex, toIndex). It finds the node before fromIndex only
+     * once, and links it to the node at toIndex. In case provided range in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all the elements that match a given predicate. It walks through the nodes once, keeping a reference to
+     * the previous node, and unlinks every matching node. Don't forget to update the tail.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a <em>fail-fast</em> iterator of the list elements. It walks through the nodes, so next is O(1). The list
+     * should count its structural changes (adding and removing elements, but not set) in an int field modCount.
+     * An iterator remembers modCount when it is created, and checks it in next and remove. If it was changed not
+     * through the iterator, it throws {@link java.util.ConcurrentModificationException}. Iterator remove should unlink
+     * the last returned node, so the iterator needs to keep a reference to the node before it.
+     * <p>
+     * Please note that the iterator should be an inner (non-static) or anonymous class.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the modCount field that the iterator uses. A view returned by {@link List#subList(int, int)} remembers it,
+     * so it throws {@link java.util.ConcurrentModificationException} once the list was structurally changed not through
+     * the view, instead of reading and writing wrong elements.
+     *
+     * @return the number of structural changes
+     */
+    @Override
+    public int modCount() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a {@link Spliterator} of the list elements that is ORDERED and SIZED. A default spliterator of
+     * {@link List} splits by index range, and it's too slow for a linked list, because get is O(n).
+     * <p>
+     * A linked list cannot be split in the middle without walking to it, that's why it uses <em>batch splitting</em>.
+     * A spliterator keeps a reference to the current node. When it's asked to split, it copies the next batch of
+     * elements to an array, moves the current node after them, and returns an array spliterator
+     * ({@link java.util.Spliterators#spliterator(Object[], int, int, int)}), which is SIZED and SUBSIZED. Every next
+     * batch should be bigger than the previous one (e.g. 1024, 2048, ...), so big lists are split into a few parts
+     * quickly. You can extend {@link java.util.Spliterators.AbstractSpliterator}, which already splits this way.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
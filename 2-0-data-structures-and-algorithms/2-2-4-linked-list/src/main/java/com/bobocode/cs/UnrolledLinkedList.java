@@ -0,0 +1,463 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * {@link UnrolledLinkedList} is an implementation of {@link List} interface that is based on doubly linked nodes, where
+ * every node stores a small array of elements instead of one element. It has the same O(1) operations at the head and
+ * the tail as {@link LinkedList}, but it creates one node per dozens of elements. It uses less memory for node
+ * headers and references, and elements of one node lie next to each other, so the traversal makes fewer cache misses.
+ * <p>
+ * A node is never more than full, and all nodes but the last one are kept at least half full where possible:
+ * <ul>
+ *     <li>when an element is inserted into a full node, the node is split into two half-full nodes</li>
+ *     <li>when a node becomes less than half full after a removal, it takes elements from the next node, or merges
+ *     with it if they fit into one node</li>
+ * </ul>
+ * So a search by index skips a whole node at once, and takes O(n / nodeCapacity) time. It starts from the head or
+ * from the tail, whichever is closer.
+ *
+ * @param <T> element type
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node head;
+    private Node tail;
+    private int size;
+    private int nodeCount;
+    private int modCount;
+    /**
+     * An index of the first element of the node that was found by the last call of
+     * {@link UnrolledLinkedList#findNode(int)}, so the search returns both in one walk.
+     */
+    private int foundNodeFirstIndex;
+
+    private static class Node {
+        final Object[] elements;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates a list with a given node capacity.
+     *
+     * @param nodeCapacity max number of elements in a node
+     * @throws IllegalArgumentException if node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Creates and returns an instance of {@link UnrolledLinkedList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        var list = new UnrolledLinkedList<T>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. If the tail node is full, it links a new one.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position. It shifts elements only within one node. If the node is full, it is
+     * split into two nodes first.
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Node node = findNode(index);
+        int offset = index - foundNodeFirstIndex;
+        if (node.count == nodeCapacity) {
+            Node newNode = linkAfter(node);
+            int half = nodeCapacity / 2;
+            System.arraycopy(node.elements, half, newNode.elements, 0, nodeCapacity - half);
+            Arrays.fill(node.elements, half, nodeCapacity, null);
+            newNode.count = nodeCapacity - half;
+            node.count = half;
+            if (offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Node node = findNode(index);
+        node.elements[index - foundNodeFirstIndex] = element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Node node = findNode(index);
+        return (T) node.elements[index - foundNodeFirstIndex];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        checkNotEmpty();
+        return (T) head.elements[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        checkNotEmpty();
+        return (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Removes an element by its position index. It shifts elements only within one node, and then rebalances the node
+     * with the next one if it became less than half full.
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Node node = findNode(index);
+        int offset = index - foundNodeFirstIndex;
+        T removedElement = (T) node.elements[offset];
+        removeFromNode(node, offset);
+        size--;
+        modCount++;
+        return removedElement;
+    }
+
+    /**
+     * Removes all the elements that match a given predicate. It tests all the elements first and remembers the ones to
+     * remove in a {@link BitSet}, so the list is left unchanged if the predicate throws an exception. Then it compacts
+     * every node in place, and unlinks empty nodes and merges small ones in a second pass. It takes O(n) time, while
+     * removing the elements one by one would search for every one of them.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if the predicate changes the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        BitSet toRemove = null;
+        int index = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++, index++) {
+                if (filter.test((T) node.elements[i])) {
+                    if (toRemove == null) {
+                        toRemove = new BitSet(size);
+                    }
+                    toRemove.set(index);
+                }
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (toRemove == null) {
+            return false;
+        }
+        index = 0;
+        for (Node node = head; node != null; node = node.next) {
+            int kept = 0;
+            for (int i = 0; i < node.count; i++, index++) {
+                if (!toRemove.get(index)) {
+                    node.elements[kept++] = node.elements[i];
+                }
+            }
+            Arrays.fill(node.elements, kept, node.count, null);
+            size -= node.count - kept;
+            node.count = kept;
+        }
+        for (Node node = head; node != null; node = node.next) {
+            if (node.count == 0) {
+                unlink(node);
+                continue;
+            }
+            while (node.count < nodeCapacity / 2 && node.next != null) {
+                rebalance(node);
+            }
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        nodeCount = 0;
+        modCount++;
+    }
+
+    /**
+     * @return a number of linked nodes
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Creates a fail-fast iterator that walks through the nodes. It throws {@link ConcurrentModificationException} if
+     * the list is structurally changed not through the iterator.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Creates an ORDERED and SIZED spliterator that is based on the iterator. It splits by copying batches of
+     * elements to arrays, because a linked list cannot be split by index cheaply.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    private class Itr implements Iterator<T> {
+        private Node node = head;
+        private int offset;
+        private int remaining = size;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            while (offset >= node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            canRemove = true;
+            return (T) node.elements[offset++];
+        }
+
+        /**
+         * Removes the last returned element. The node can be merged with the next one, so the iterator continues from
+         * the position of the next element, which is found again by its index.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            int nextIndex = size - remaining - 1;
+            UnrolledLinkedList.this.remove(nextIndex);
+            canRemove = false;
+            expectedModCount = modCount;
+            if (remaining > 0) {
+                node = findNode(nextIndex);
+                offset = nextIndex - foundNodeFirstIndex;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Finds a node that contains a given index, starting from the head or from the tail, whichever is closer. It also
+     * stores the index of the first element of the node in {@link UnrolledLinkedList#foundNodeFirstIndex}, which it
+     * counts on the way, so the caller does not walk the nodes again to find the offset inside the node.
+     */
+    private Node findNode(int index) {
+        Node node;
+        int first;
+        if (index < size / 2) {
+            node = head;
+            first = 0;
+            while (first + node.count <= index) {
+                first += node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            first = size - tail.count;
+            while (first > index) {
+                node = node.prev;
+                first -= node.count;
+            }
+        }
+        foundNodeFirstIndex = first;
+        return node;
+    }
+
+    private void removeFromNode(Node node, int offset) {
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        if (node.count == 0) {
+            unlink(node);
+        } else {
+            rebalance(node);
+        }
+    }
+
+    /**
+     * If a node is less than half full, it merges the next node into it when they fit into one node, or takes a few
+     * elements from the next node otherwise, so both are at least half full.
+     */
+    private void rebalance(Node node) {
+        int half = nodeCapacity / 2;
+        Node next = node.next;
+        if (node.count >= half || next == null) {
+            return;
+        }
+        if (node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        } else {
+            int moved = half - node.count;
+            System.arraycopy(next.elements, 0, node.elements, node.count, moved);
+            System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+            Arrays.fill(next.elements, next.count - moved, next.count, null);
+            node.count += moved;
+            next.count -= moved;
+        }
+    }
+
+    private Node linkAfter(Node node) {
+        Node newNode = new Node(nodeCapacity);
+        newNode.prev = node;
+        if (node == null) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if (newNode.next == null) {
+            tail = newNode;
+        } else {
+            newNode.next.prev = newNode;
+        }
+        nodeCount++;
+        return newNode;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        nodeCount--;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks of linked lists. They print their measurements instead of checking them, because timings depend on the
+ * machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LinkedListBenchmark {
+    private static final int ELEMENTS = 100_000;
+
+    /**
+     * Compares the list with {@link java.util.ArrayList} and {@link java.util.LinkedList} on a mixed workload of
+     * appends, inserts at random positions, head inserts and removals, and gets by random index.
+     * {@link ArrayList} and {@link LinkedList} of this repository are exercises, so the JDK lists are used instead.
+     */
+    @Test
+    @Order(1)
+    void mixedInsertAndGetWorkload() {
+        var unrolledNanos = runMixedWorkload(UnrolledLinkedList::new);
+        var arrayListNanos = runMixedWorkload(() -> listOf(new java.util.ArrayList<>()));
+        var linkedListNanos = runMixedWorkload(() -> listOf(new java.util.LinkedList<>()));
+        System.out.printf("mixed workload of %d elements: UnrolledLinkedList %d ms, java.util.ArrayList %d ms, "
+                        + "java.util.LinkedList %d ms%n", ELEMENTS / 2, unrolledNanos / 1_000_000,
+                arrayListNanos / 1_000_000, linkedListNanos / 1_000_000);
+    }
+
+    private long runMixedWorkload(Supplier<List<Integer>> listFactory) {
+        var workloadList = listFactory.get();
+        var random = new Random(15);
+        long sum = 0;
+        var startTime = System.nanoTime();
+        for (int i = 0; i < ELEMENTS / 2; i++) {
+            switch (i % 4) {
+                case 0:
+                    workloadList.add(i);
+                    break;
+                case 1:
+                    workloadList.add(random.nextInt(workloadList.size() + 1), i);
+                    break;
+                case 2:
+                    workloadList.add(0, i);
+                    workloadList.remove(0);
+                    break;
+                default:
+                    sum += workloadList.get(random.nextInt(workloadList.size()));
+            }
+        }
+        var nanos = System.nanoTime() - startTime;
+        assertThat(sum).isPositive();
+        return nanos;
+    }
+
+    /**
+     * Adapts a JDK list to {@link List}, so all the lists run the same workload code.
+     */
+    private static List<Integer> listOf(java.util.List<Integer> jdkList) {
+        return new List<>() {
+            @Override
+            public void add(Integer element) {
+                jdkList.add(element);
+            }
+
+            @Override
+            public void add(int index, Integer element) {
+                jdkList.add(index, element);
+            }
+
+            @Override
+            public void set(int index, Integer element) {
+                jdkList.set(index, element);
+            }
+
+            @Override
+            public Integer get(int index) {
+                return jdkList.get(index);
+            }
+
+            @Override
+            public Integer getFirst() {
+                return jdkList.get(0);
+            }
+
+            @Override
+            public Integer getLast() {
+                return jdkList.get(jdkList.size() - 1);
+            }
+
+            @Override
+            public Integer remove(int index) {
+                return jdkList.remove(index);
+            }
+
+            @Override
+            public boolean contains(Integer element) {
+                return jdkList.contains(element);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return jdkList.isEmpty();
+            }
+
+            @Override
+            public int size() {
+                return jdkList.size();
+            }
+
+            @Override
+            public void clear() {
+                jdkList.clear();
+            }
+        };
+    }
+}
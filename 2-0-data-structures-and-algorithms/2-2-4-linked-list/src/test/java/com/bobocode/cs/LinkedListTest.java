@@ -11,8 +11,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -38,6 +42,9 @@ public class LinkedListTest {
             field.getType().getSimpleName().equals("Node")
             && (field.getName().equals("tail") || field.getName().contains("last"));
 
+    private static final Predicate<Field> NEXT_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node") && field.getName().contains("next");
+
     private static final Predicate<Field> SIZE_FIELD = field ->
             field.getName().equals("size");
 
@@ -510,6 +517,300 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void addAllByIndex() {
+        addInternalElements(1, 2, 5);
+
+        intList.addAll(2, new Integer[]{3, 4});
+
+        assertThat(getInternalSize()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(43)
+    void addAllToTheEndUpdatesTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(2, new Integer[]{3, 4});
+        intList.add(5);
+
+        assertThat(getInternalSize()).isEqualTo(5);
+        assertThat(getInternalElement(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(44)
+    void addAllByIndexThrowsExceptionWhenIndexIsOutOfBound() {
+        addInternalElements(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.addAll(2, new Integer[]{3}));
+    }
+
+    @Test
+    @Order(45)
+    void removeRange() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.removeRange(1, 3);
+
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(4);
+        assertThat(getInternalElement(2)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(46)
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBound() {
+        addInternalElements(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 3));
+    }
+
+    @Test
+    @Order(47)
+    void removeIfUpdatesTail() {
+        addInternalElements(1, 2, 3, 4);
+
+        boolean removed = intList.removeIf(element -> element % 2 == 0);
+        intList.add(5);
+
+        assertThat(removed).isTrue();
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(3);
+        assertThat(getInternalElement(2)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(48)
+    void subListChangesTheList() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        subList.set(0, 20);
+        subList.removeIf(element -> element == 3);
+
+        assertThat(subList.size()).isEqualTo(2);
+        assertThat(getInternalElement(1)).isEqualTo(20);
+        assertThat(getInternalElement(2)).isEqualTo(4);
+        assertThat(getInternalSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(49)
+    void spliteratorIsOrderedAndSized() {
+        addInternalElements(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.estimateSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(50)
+    void streamKeepsOrder() {
+        addInternalElements(4, 5, 6);
+
+        var elements = intList.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        assertThat(elements).isEqualTo("4,5,6");
+    }
+
+    @Test
+    @Order(51)
+    void parallelStreamSplitsBigList() {
+        for (int i = 1; i <= 10_000; i++) {
+            intList.add(i);
+        }
+
+        var firstPart = intList.spliterator().trySplit();
+        var sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+        var first = intList.parallelStream().findFirst();
+
+        assertThat(firstPart).isNotNull();
+        assertThat(firstPart.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(sum).isEqualTo(10_000L * 10_001 / 2);
+        assertThat(first.orElseThrow()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(52)
+    void iteratorReturnsAllElements() {
+        addInternalElements(4, 5, 6);
+        StringBuilder elements = new StringBuilder();
+
+        for (Integer element : intList) {
+            elements.append(element);
+        }
+
+        assertThat(elements.toString()).isEqualTo("456");
+    }
+
+    @Test
+    @Order(53)
+    void iteratorThrowsExceptionWhenListIsChanged() {
+        addInternalElements(4, 5, 6);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(54)
+    void iteratorRemoveUnlinksNodes() {
+        addInternalElements(4, 5, 6);
+        Iterator<Integer> iterator = intList.iterator();
+
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element == 4 || element == 6) {
+                iterator.remove();
+            }
+        }
+        intList.add(7);
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getInternalElement(0)).isEqualTo(5);
+        assertThat(getInternalElement(1)).isEqualTo(7);
+    }
+
+    /**
+     * Unlinks every node behind the last accessed one right after it is accessed. A search that starts from the head
+     * runs into the cut link, so only a search that starts from the finger finds the next node.
+     */
+    @Test
+    @Order(55)
+    @SneakyThrows
+    void sequentialGetAndSetStartFromTheFinger() {
+        int size = 100;
+        for (int i = 0; i < size; i++) {
+            intList.add(i);
+        }
+        var nodes = new Object[size];
+        nodes[0] = getInternalHeadField().get(intList);
+        for (int i = 1; i < size; i++) {
+            nodes[i] = getAccessibleFieldByPredicate(nodes[i - 1], NODE_FIELD).get(nodes[i - 1]);
+        }
+
+        for (int i = 0; i < size - 1; i++) {
+            if (i % 2 == 0) {
+                assertThat(intList.get(i)).isEqualTo(i);
+            } else {
+                intList.set(i, -i);
+                assertThat(getAccessibleFieldByPredicate(nodes[i], ELEMENT_FIELD).get(nodes[i])).isEqualTo(-i);
+            }
+            if (i > 0) {
+                getAccessibleFieldByPredicate(nodes[i - 1], NODE_FIELD).set(nodes[i - 1], null);
+            }
+        }
+    }
+
+    @Test
+    @Order(56)
+    void getAndSetReturnCorrectElementsAfterListIsChanged() {
+        for (int i = 0; i < 100; i++) {
+            intList.add(i);
+        }
+        intList.get(50);
+
+        intList.remove(10);
+        assertThat(intList.get(50)).isEqualTo(51);
+
+        intList.add(0, -1);
+        assertThat(intList.get(50)).isEqualTo(50);
+
+        intList.set(51, 500);
+        intList.removeRange(0, 5);
+        assertThat(intList.get(46)).isEqualTo(500);
+        assertThat(intList.get(45)).isEqualTo(50);
+        assertThat(intList.get(0)).isEqualTo(4);
+        assertThat(intList.get(intList.size() - 1)).isEqualTo(99);
+    }
+
+    @Test
+    @Order(57)
+    void listWithNodePoolBehavesLikeListWithout() {
+        var pooledList = new LinkedList<Integer>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                pooledList.add(i);
+            }
+            pooledList.remove(5);
+            pooledList.add(0, -1);
+            pooledList.removeIf(e -> e % 2 == 0);
+
+            assertThat(pooledList.size()).isEqualTo(5);
+            assertThat(pooledList.get(0)).isEqualTo(-1);
+            assertThat(pooledList.getLast()).isEqualTo(9);
+            pooledList.clear();
+        }
+    }
+
+    @Test
+    @Order(58)
+    void createListWithNegativeNodePoolCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LinkedList<Integer>(-1));
+    }
+
+    @Test
+    @Order(59)
+    void subListIsFailFast() {
+        addInternalElements(1, 2, 3, 4, 5);
+        List<Integer> subList = intList.subList(1, 4);
+
+        intList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.get(0));
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.set(0, 20));
+        assertThat(getInternalElement(0)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(60)
+    @SneakyThrows
+    void addReusesRemovedNode() {
+        intList = new LinkedList<>(4);
+        intList.add(1);
+        intList.add(2);
+        intList.add(3);
+        Object removedNode = getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList);
+
+        assertThat(intList.remove(0)).isEqualTo(1);
+        assertThat(getAccessibleFieldByPredicate(removedNode, ELEMENT_FIELD).get(removedNode)).isNull();
+        assertThat(getAccessibleFieldByPredicate(removedNode, NEXT_NODE_FIELD).get(removedNode)).isNull();
+
+        intList.add(0, 10);
+        assertThat(getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList)).isSameAs(removedNode);
+        assertThat(getInternalElement(0)).isEqualTo(10);
+        assertThat(getInternalElement(1)).isEqualTo(2);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(61)
+    @SneakyThrows
+    void addDoesNotReuseNodeWithZeroNodePoolCapacity() {
+        intList = new LinkedList<>(0);
+        intList.add(1);
+        Object removedNode = getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList);
+        intList.remove(0);
+
+        intList.add(0, 10);
+        assertThat(getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList)).isNotSameAs(removedNode);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
@@ -0,0 +1,284 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UnrolledLinkedListTest {
+    private static final int ELEMENTS = 100_000;
+
+    private final UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void createListWithWrongNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @Order(2)
+    void addAndGetElementsAcrossNodes() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        assertThat(list.size()).isEqualTo(10);
+        assertThat(list.nodeCount()).isEqualTo(3);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(3)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+    }
+
+    @Test
+    @Order(4)
+    void indexOutOfBounds() {
+        list.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(-1, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(2, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(1));
+    }
+
+    @Test
+    @Order(5)
+    void addToFullNodeSplitsIt() {
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+
+        list.add(1, 10);
+
+        assertThat(list.nodeCount()).isEqualTo(2);
+        assertThat(list.stream()).containsExactly(0, 10, 1, 2, 3);
+    }
+
+    @Test
+    @Order(6)
+    void addAndRemoveAtHead() {
+        for (int i = 0; i < 10; i++) {
+            list.add(0, i);
+        }
+        assertThat(list.stream()).containsExactly(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+
+        for (int i = 9; i >= 0; i--) {
+            assertThat(list.remove(0)).isEqualTo(i);
+        }
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.nodeCount()).isZero();
+    }
+
+    @Test
+    @Order(7)
+    void removeRebalancesSmallNodes() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        list.remove(1);
+        list.remove(1);
+        list.remove(1);
+
+        assertThat(list.nodeCount()).isEqualTo(2);
+        assertThat(list.stream()).containsExactly(0, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(8)
+    void setAndContains() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        list.set(7, 70);
+
+        assertThat(list.get(7)).isEqualTo(70);
+        assertThat(list.contains(70)).isTrue();
+        assertThat(list.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(9)
+    void removeIfCompactsNodes() {
+        for (int i = 0; i < 40; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.removeIf(e -> e % 5 != 0)).isTrue();
+
+        assertThat(list.stream()).containsExactly(0, 5, 10, 15, 20, 25, 30, 35);
+        assertThat(list.nodeCount()).isEqualTo(4);
+        assertThat(list.removeIf(e -> e < 0)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void iteratorIsFailFast() {
+        list.add(1);
+        list.add(2);
+        var iterator = list.iterator();
+        iterator.next();
+
+        list.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(11)
+    void iteratorRemove() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+
+        var iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(list.stream()).containsExactly(1, 3, 5, 7, 9, 11, 13, 15, 17, 19);
+    }
+
+    @Test
+    @Order(12)
+    void clearAndOf() {
+        var letters = UnrolledLinkedList.of("a", "b", "c");
+        assertThat(letters.stream()).containsExactly("a", "b", "c");
+
+        letters.clear();
+
+        assertThat(letters.size()).isZero();
+        assertThat(letters.nodeCount()).isZero();
+        assertThat(letters.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 64})
+    @Order(13)
+    void randomOperationsMatchJavaUtilList(int nodeCapacity) {
+        var unrolledList = new UnrolledLinkedList<Integer>(nodeCapacity);
+        var expected = new java.util.ArrayList<Integer>();
+        var random = new Random(nodeCapacity);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                unrolledList.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                assertThat(unrolledList.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                unrolledList.set(index, -i);
+                expected.set(index, -i);
+            } else if (operation < 9) {
+                unrolledList.add(i);
+                expected.add(i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(unrolledList.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+
+        assertThat(unrolledList.size()).isEqualTo(expected.size());
+        assertThat(unrolledList.stream()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @Order(14)
+    void nodeCountIsSmallerThanSize() {
+        var unrolledList = new UnrolledLinkedList<Integer>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            unrolledList.add(i);
+        }
+        var random = new Random(14);
+        for (int i = 0; i < ELEMENTS / 10; i++) {
+            unrolledList.add(random.nextInt(unrolledList.size()), i);
+        }
+
+        assertThat(unrolledList.nodeCount()).isLessThan(unrolledList.size() / 16);
+    }
+
+    @Test
+    @Order(15)
+    void nodesStayHalfFullOnMixedWorkload() {
+        var unrolledList = new UnrolledLinkedList<Integer>();
+        var random = new Random(15);
+        for (int i = 0; i < ELEMENTS / 2; i++) {
+            switch (i % 4) {
+                case 0 -> unrolledList.add(i);
+                case 1 -> unrolledList.add(random.nextInt(unrolledList.size() + 1), i);
+                case 2 -> {
+                    unrolledList.add(0, i);
+                    unrolledList.remove(0);
+                }
+                default -> unrolledList.remove(random.nextInt(unrolledList.size()));
+            }
+        }
+
+        assertThat(unrolledList.nodeCount()).isLessThanOrEqualTo(unrolledList.size() / 32 + 1);
+    }
+
+    @Test
+    @Order(16)
+    void removeIfKeepsListWhenPredicateThrows() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        int nodeCount = list.nodeCount();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.removeIf(e -> {
+            if (e == 13) {
+                throw new IllegalStateException();
+            }
+            return e % 2 == 0;
+        }));
+
+        assertThat(list.size()).isEqualTo(20);
+        assertThat(list.nodeCount()).isEqualTo(nodeCount);
+        for (int i = 0; i < 20; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(17)
+    void removeIfThrowsWhenPredicateChangesList() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> list.removeIf(e -> {
+            if (e == 5) {
+                list.add(100);
+            }
+            return e % 2 == 0;
+        }));
+        assertThat(list.size()).isEqualTo(21);
+    }
+}
@@ -2,6 +2,9 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Iterator;
+import java.util.function.Predicate;
+
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
@@ -156,4 +159,71 @@ public class ArrayList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Inserts all the given elements starting from a specific position. It resizes the array not more than once, so it
+     * is big enough for all the new elements. Then it shifts the following elements to the right only once using
+     * {@link System#arraycopy(Object, int, Object, int, int)}, and copies the new elements to the freed cells.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    a position of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all the elements with index in the range [fromIndex, toIndex). It shifts the following elements to the
+     * left only once using {@link System#arraycopy(Object, int, Object, int, int)}, and sets the freed cells at the end
+     * to null, so removed elements can be garbage collected. In case provided range in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all the elements that match a given predicate. It walks through the array once, and moves every element
+     * that should be kept to the left, right after the previous kept element. Then it sets the rest of the cells to
+     * null.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a <em>fail-fast</em> iterator of the list elements. The list should count its structural changes (adding
+     * and removing elements, but not set) in an int field modCount. An iterator remembers modCount when it is created,
+     * and checks it in next and remove. If it was changed not through the iterator, it throws
+     * {@link java.util.ConcurrentModificationException}, so a bug is found right away instead of silently returning
+     * wrong elements. Iterator remove should remove the last returned element and update the expected modCount.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the modCount field that the iterator uses. A view returned by {@link List#subList(int, int)} remembers it,
+     * so it throws {@link java.util.ConcurrentModificationException} once the list was structurally changed not through
+     * the view, instead of reading and writing wrong elements.
+     *
+     * @return the number of structural changes
+     */
+    @Override
+    public int modCount() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
@@ -0,0 +1,268 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * {@link CopyOnWriteList} is a thread-safe implementation of {@link List} interface for read-mostly data, e.g.
+ * configuration or a list of listeners. It is a simplified version of
+ * {@link java.util.concurrent.CopyOnWriteArrayList}.
+ * <p>
+ * The elements are stored in an array that is never changed. Every write operation creates a copy of the array,
+ * changes the copy and publishes it via a volatile field. Writers are serialized using a lock, while readers don't use
+ * any lock at all. An iterator, a spliterator and a stream walk through the array that was published when they were
+ * created (a snapshot), so they never see a partially applied change and never throw
+ * {@link java.util.ConcurrentModificationException}. The iterator does not support remove.
+ * <p>
+ * Every write is O(n), so this list should be used only when reads outnumber writes by far. Bulk operations copy the
+ * array only once.
+ * <p>
+ * Unlike an iterator, a view returned by {@link List#subList(int, int)} is not a snapshot. Structural writes are
+ * counted under the lock, so the view throws {@link java.util.ConcurrentModificationException} once the list was
+ * structurally changed not through the view, e.g. by another thread. As any fail-fast check, it is a best effort: a
+ * write that happens during a call of the view is noticed only by the next call.
+ *
+ * @param <T> element type
+ */
+public class CopyOnWriteList<T> implements List<T> {
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private final Object lock = new Object();
+    private volatile Object[] elements = EMPTY_ARRAY;
+    private volatile int modCount;
+
+    /**
+     * Creates and returns an instance of {@link CopyOnWriteList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        var list = new CopyOnWriteList<T>();
+        Object[] copy = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            copy[i] = elements[i];
+        }
+        list.elements = copy;
+        return list;
+    }
+
+    @Override
+    public void add(T element) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Object[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            elements = copy;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length + 1);
+            Object[] copy = new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            copy[index] = element;
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            elements = copy;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void addAll(int index, T[] newElements) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length + 1);
+            Object[] copy = new Object[current.length + newElements.length];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(newElements, 0, copy, index, newElements.length);
+            System.arraycopy(current, index, copy, index + newElements.length, current.length - index);
+            elements = copy;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void set(int index, T element) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length);
+            Object[] copy = current.clone();
+            copy[index] = element;
+            elements = copy;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] current = elements;
+        Objects.checkIndex(index, current.length);
+        return (T) current[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        Object[] current = elements;
+        if (current.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        Object[] current = elements;
+        if (current.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current[current.length - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Objects.checkIndex(index, current.length);
+            T removedElement = (T) current[index];
+            elements = copyWithoutRange(current, index, index + 1);
+            modCount++;
+            return removedElement;
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Objects.checkFromToIndex(fromIndex, toIndex, current.length);
+            elements = copyWithoutRange(current, fromIndex, toIndex);
+            modCount++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Object[] kept = new Object[current.length];
+            int keptCount = 0;
+            for (Object element : current) {
+                if (!filter.test((T) element)) {
+                    kept[keptCount++] = element;
+                }
+            }
+            if (keptCount == current.length) {
+                return false;
+            }
+            elements = Arrays.copyOf(kept, keptCount);
+            modCount++;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (Object current : elements) {
+            if (Objects.equals(current, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            elements = EMPTY_ARRAY;
+            modCount++;
+        }
+    }
+
+    /**
+     * Creates an iterator of a snapshot of the list. The elements that are added or removed after the iterator is
+     * created are not visible to it.
+     *
+     * @return a new iterator
+     * @throws UnsupportedOperationException on remove
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshot = elements;
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) snapshot[index++];
+            }
+        };
+    }
+
+    /**
+     * Creates a spliterator of a snapshot of the list. It is IMMUTABLE, because the snapshot is never changed.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * @return a copy of the current elements
+     */
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+
+    private static Object[] copyWithoutRange(Object[] array, int fromIndex, int toIndex) {
+        Object[] copy = new Object[array.length - (toIndex - fromIndex)];
+        System.arraycopy(array, 0, copy, 0, fromIndex);
+        System.arraycopy(array, toIndex, copy, fromIndex, array.length - toIndex);
+        return copy;
+    }
+}
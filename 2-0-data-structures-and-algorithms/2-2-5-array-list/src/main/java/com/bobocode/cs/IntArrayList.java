@@ -0,0 +1,180 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link IntArrayList} is a resizable array of primitive int values. It provides the same operations as {@link List},
+ * but it does not box the elements. {@link ArrayList} of {@link Integer} stores a reference to an object per element,
+ * and every object takes 16 bytes, while {@link IntArrayList} stores 4 bytes per element in one int array.
+ *
+ * @see LongArrayList
+ * @see DoubleArrayList
+ */
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public IntArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initCapacity);
+        }
+        elements = new int[initCapacity];
+    }
+
+    /**
+     * Creates a list with provided elements.
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static IntArrayList of(int... elements) {
+        var list = new IntArrayList(Math.max(1, elements.length));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    public void add(int element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    /**
+     * Adds an element to the specific position, and shifts the following elements to the right.
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, int element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all the given elements to the end of the list. The array inside is resized not more than once.
+     *
+     * @param newElements elements to add
+     */
+    public void addAll(int[] newElements) {
+        ensureCapacity(size + newElements.length);
+        System.arraycopy(newElements, 0, elements, size, newElements.length);
+        size += newElements.length;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public int getFirst() {
+        checkNotEmpty();
+        return elements[0];
+    }
+
+    public int getLast() {
+        checkNotEmpty();
+        return elements[size - 1];
+    }
+
+    public void set(int index, int element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    /**
+     * Removes an element by its position index, and shifts the following elements to the left.
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public int remove(int index) {
+        int removedElement = get(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    public boolean contains(int element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the elements in ascending order in place, without boxing.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * @return a new array that contains all the elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a length of the array inside
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("List size exceeds " + Integer.MAX_VALUE);
+        }
+        if (minCapacity > elements.length) {
+            int newCapacity = elements.length + (elements.length >> 1) + 1;
+            elements = Arrays.copyOf(elements, Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
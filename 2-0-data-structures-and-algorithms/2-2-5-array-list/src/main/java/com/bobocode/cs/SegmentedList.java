@@ -0,0 +1,414 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link SegmentedList} is an implementation of {@link List} interface that stores elements in fixed-size arrays
+ * (chunks) instead of one big array. References to the chunks are stored in a small index array.
+ * <p>
+ * When {@link ArrayList} is full, it creates a bigger array and copies all the elements there. For a list of tens of
+ * millions of elements it means a long copy and using twice as much memory for a while. When {@link SegmentedList} is
+ * full, it just allocates one more chunk, so the elements are never copied on append. Only the index array grows, and
+ * it is thousands of times smaller than the list itself.
+ * <p>
+ * The chunk size is a power of two, so the chunk and the position inside it are calculated using a shift and a bit
+ * mask, and {@link SegmentedList#get(int)} is still O(1). Inserting or removing elements in the middle shifts the
+ * following elements once, in runs that fit a chunk, so it's O(n) like in {@link ArrayList}.
+ *
+ * @param <T> element type
+ */
+public class SegmentedList<T> implements List<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+    private static final int MAXIMUM_CHUNK_SIZE = 1 << 30;
+    private static final int INITIAL_INDEX_LENGTH = 8;
+
+    private final int shift;
+    private final int mask;
+    private Object[][] chunks;
+    private int chunkCount;
+    private int size;
+    private int modCount;
+
+    public SegmentedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a list with a given chunk size.
+     *
+     * @param chunkSize a number of elements in a chunk, it is rounded up to the closest power of two
+     * @throws IllegalArgumentException if chunk size is not positive
+     */
+    public SegmentedList(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        int capacity = chunkSize >= MAXIMUM_CHUNK_SIZE ? MAXIMUM_CHUNK_SIZE : Integer.highestOneBit(chunkSize - 1) << 1;
+        capacity = Math.max(1, capacity);
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+        this.chunks = new Object[INITIAL_INDEX_LENGTH][];
+    }
+
+    /**
+     * Creates and returns an instance of {@link SegmentedList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        var list = new SegmentedList<T>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. If the last chunk is full, it allocates a new one. It never copies
+     * the elements.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        ensureChunkFor(size);
+        chunks[size >>> shift][size & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position. All the following elements are shifted to the right, and the last
+     * element of every chunk is moved to the beginning of the next one.
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        ensureChunkFor(size);
+        moveElements(index, index + 1, size - index);
+        chunks[index >>> shift][index & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts all the given elements starting from a specific position. It allocates all the missing chunks first,
+     * and shifts the following elements only once.
+     *
+     * @param index    a position of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size + 1);
+        int newSize = size + elements.length;
+        if (newSize < 0) {
+            throw new OutOfMemoryError("List size exceeds " + Integer.MAX_VALUE);
+        }
+        for (int i = size; i < newSize; i += mask + 1 - (i & mask)) {
+            ensureChunkFor(i);
+        }
+        moveElements(index, index + elements.length, size - index);
+        for (int i = 0; i < elements.length; i++) {
+            int position = index + i;
+            chunks[position >>> shift][position & mask] = elements[i];
+        }
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Changes the value at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        chunks[index >>> shift][index & mask] = element;
+    }
+
+    /**
+     * Retrieves an element by its position index in constant time. In case provided index in out of the list bounds
+     * it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) chunks[index >>> shift][index & mask];
+    }
+
+    @Override
+    public T getFirst() {
+        checkNotEmpty();
+        return get(0);
+    }
+
+    @Override
+    public T getLast() {
+        checkNotEmpty();
+        return get(size - 1);
+    }
+
+    /**
+     * Removes an element by its position index. All the following elements are shifted to the left, one chunk at
+     * a time. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        T removedElement = get(index);
+        moveElements(index + 1, index, size - index - 1);
+        size--;
+        chunks[size >>> shift][size & mask] = null;
+        modCount++;
+        return removedElement;
+    }
+
+    /**
+     * Removes all the elements with index in the range [fromIndex, toIndex). The following elements are shifted
+     * to the left only once.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        moveElements(toIndex, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        clearElements(newSize, size);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes all the elements that match a given predicate. It tests all the elements first and remembers the ones to
+     * remove in a {@link BitSet}, then it moves every element that should be kept right after the previous kept
+     * element. If the predicate throws an exception, the list is left unchanged.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if the predicate changes the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        BitSet toRemove = null;
+        for (int i = 0; i < size; i++) {
+            if (filter.test((T) chunks[i >>> shift][i & mask])) {
+                if (toRemove == null) {
+                    toRemove = new BitSet(size);
+                }
+                toRemove.set(i);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (toRemove == null) {
+            return false;
+        }
+        int newSize = toRemove.nextSetBit(0);
+        for (int i = toRemove.nextClearBit(newSize); i < size; i = toRemove.nextClearBit(i + 1)) {
+            chunks[newSize >>> shift][newSize & mask] = chunks[i >>> shift][i & mask];
+            newSize++;
+        }
+        clearElements(newSize, size);
+        size = newSize;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(chunks[i >>> shift][i & mask], element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Removes all the elements and releases all the chunks.
+     */
+    @Override
+    public void clear() {
+        chunks = new Object[INITIAL_INDEX_LENGTH][];
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Creates a fail-fast iterator. If the list is structurally changed (an element is added or removed) not through
+     * the iterator, the iterator throws {@link ConcurrentModificationException}. It's a best-effort check that helps to
+     * find bugs, it does not make the list thread-safe.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Releases the chunks that are not used by any element.
+     */
+    public void trimToSize() {
+        int usedChunks = (size + mask) >>> shift;
+        for (int c = usedChunks; c < chunkCount; c++) {
+            chunks[c] = null;
+        }
+        chunkCount = usedChunks;
+    }
+
+    /**
+     * @return a number of elements in a chunk
+     */
+    public int chunkSize() {
+        return mask + 1;
+    }
+
+    /**
+     * @return a number of allocated chunks
+     */
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    private class Itr implements Iterator<T> {
+        private int index;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = index++;
+            return (T) chunks[lastReturned >>> shift][lastReturned & mask];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            SegmentedList.this.remove(lastReturned);
+            index = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void ensureChunkFor(int index) {
+        int chunk = index >>> shift;
+        if (chunk < chunkCount) {
+            return;
+        }
+        if (index < 0) {
+            throw new OutOfMemoryError("List size exceeds " + Integer.MAX_VALUE);
+        }
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length << 1);
+        }
+        chunks[chunk] = new Object[mask + 1];
+        chunkCount++;
+    }
+
+    /**
+     * Copies a range of elements to another position. Elements are copied using System.arraycopy in runs that fit
+     * both the source and the destination chunk. When elements are moved to the right, runs are copied from the end,
+     * so the elements that are not copied yet are never overwritten.
+     */
+    private void moveElements(int from, int to, int length) {
+        if (to > from) {
+            int remaining = length;
+            while (remaining > 0) {
+                int sourceEnd = from + remaining;
+                int destinationEnd = to + remaining;
+                int run = Math.min(remaining, Math.min(((sourceEnd - 1) & mask), ((destinationEnd - 1) & mask)) + 1);
+                System.arraycopy(chunks[(sourceEnd - 1) >>> shift], (sourceEnd - run) & mask,
+                        chunks[(destinationEnd - 1) >>> shift], (destinationEnd - run) & mask, run);
+                remaining -= run;
+            }
+        } else {
+            int copied = 0;
+            while (copied < length) {
+                int source = from + copied;
+                int destination = to + copied;
+                int run = Math.min(length - copied, mask + 1 - Math.max(source & mask, destination & mask));
+                System.arraycopy(chunks[source >>> shift], source & mask,
+                        chunks[destination >>> shift], destination & mask, run);
+                copied += run;
+            }
+        }
+    }
+
+    private void clearElements(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; ) {
+            int end = (int) Math.min(toIndex, (i | mask) + 1L);
+            Arrays.fill(chunks[i >>> shift], i & mask, ((end - 1) & mask) + 1, null);
+            i = end;
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
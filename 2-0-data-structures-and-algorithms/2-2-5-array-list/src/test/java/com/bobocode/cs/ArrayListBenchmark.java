@@ -0,0 +1,121 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * Benchmarks of array-based lists. They print their measurements instead of checking them, because timings depend on
+ * the machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayListBenchmark {
+    private static final int ELEMENTS = 5_000_000;
+
+    @Test
+    @Order(1)
+    void segmentedListAppends() {
+        var startTime = System.nanoTime();
+        var segmentedList = new SegmentedList<Integer>(1024);
+        for (int i = 0; i < ELEMENTS; i++) {
+            segmentedList.add(i);
+        }
+        var segmentedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        startTime = System.nanoTime();
+        var arrayList = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            arrayList.add(i);
+        }
+        var arrayListMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        System.out.printf("%d appends: SegmentedList %d ms in %d chunks, java.util.ArrayList %d ms%n",
+                segmentedList.size(), segmentedMillis, segmentedList.chunkCount(), arrayListMillis);
+    }
+
+    @Test
+    @Order(2)
+    void segmentedListParallelStream() {
+        var segmentedList = new SegmentedList<Integer>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            segmentedList.add(i % 1000);
+        }
+
+        var startTime = System.nanoTime();
+        var sequentialSum = segmentedList.stream().mapToLong(Integer::longValue).sum();
+        var sequentialMillis = (System.nanoTime() - startTime) / 1_000_000;
+        startTime = System.nanoTime();
+        var parallelSum = segmentedList.parallelStream().mapToLong(Integer::longValue).sum();
+        var parallelMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        System.out.printf("Sum of %d elements: sequential %d ms (%d), parallel %d ms (%d) on %d cores%n",
+                ELEMENTS, sequentialMillis, sequentialSum, parallelMillis, parallelSum,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Compares the heap that is used by {@link IntArrayList} and by {@link java.util.ArrayList} of boxed elements. It's
+     * an estimate, because it depends on how much garbage the collector has collected.
+     */
+    @Test
+    @Order(3)
+    void intArrayListFootprint() {
+        var before = usedHeap();
+        var primitiveList = new IntArrayList();
+        for (int i = 0; i < ELEMENTS; i++) {
+            primitiveList.add(i);
+        }
+        var primitiveListBytes = usedHeap() - before;
+
+        before = usedHeap();
+        var boxedList = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            boxedList.add(i);
+        }
+        var boxedListBytes = usedHeap() - before;
+
+        System.out.printf("IntArrayList of %d elements: %d KB, ArrayList<Integer> of %d elements: %d KB%n",
+                primitiveList.size(), primitiveListBytes / 1024, boxedList.size(), boxedListBytes / 1024);
+    }
+
+    @Test
+    @Order(4)
+    void intArrayListThroughput() {
+        var primitiveList = new IntArrayList();
+        var boxedList = new java.util.ArrayList<Integer>();
+        long primitiveSum = 0;
+        long boxedSum = 0;
+
+        var startTime = System.nanoTime();
+        for (int i = 0; i < ELEMENTS; i++) {
+            primitiveList.add(i);
+        }
+        for (int i = 0; i < ELEMENTS; i++) {
+            primitiveSum += primitiveList.get(i);
+        }
+        var primitiveNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < ELEMENTS; i++) {
+            boxedList.add(i);
+        }
+        for (int i = 0; i < ELEMENTS; i++) {
+            boxedSum += boxedList.get(i);
+        }
+        var boxedNanos = System.nanoTime() - startTime;
+
+        System.out.printf("add + get of %d elements: IntArrayList %d ms (%d), ArrayList<Integer> %d ms (%d)%n",
+                ELEMENTS, primitiveNanos / 1_000_000, primitiveSum, boxedNanos / 1_000_000, boxedSum);
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
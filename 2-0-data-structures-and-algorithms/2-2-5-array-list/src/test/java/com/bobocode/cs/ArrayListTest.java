@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -361,6 +365,180 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addAllByIndex() {
+        fillTestArray(1, 2, 5);
+
+        arrayList.addAll(2, new Integer[]{3, 4});
+
+        Object[] internalArray = getTestArray();
+        assertThat(getTestSize()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(internalArray[i]).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(38)
+    void addAllByIndexThrowsExceptionWhenIndexIsOutOfBound() {
+        fillTestArray(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.addAll(2, new Integer[]{3}));
+    }
+
+    @Test
+    @Order(39)
+    void removeRange() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        arrayList.removeRange(1, 3);
+
+        Object[] internalArray = getTestArray();
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(4);
+        assertThat(internalArray[2]).isEqualTo(5);
+        assertThat(internalArray[3]).isNull();
+        assertThat(internalArray[4]).isNull();
+    }
+
+    @Test
+    @Order(40)
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBound() {
+        fillTestArray(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(1, 3));
+    }
+
+    @Test
+    @Order(41)
+    void removeIf() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        boolean removed = arrayList.removeIf(element -> element % 2 == 0);
+
+        Object[] internalArray = getTestArray();
+        assertThat(removed).isTrue();
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(3);
+        assertThat(internalArray[2]).isEqualTo(5);
+        assertThat(internalArray[3]).isNull();
+    }
+
+    @Test
+    @Order(42)
+    void subListChangesTheList() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        subList.set(0, 20);
+        subList.remove(2);
+
+        assertThat(subList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(20);
+        assertThat(arrayList.get(3)).isEqualTo(5);
+
+        subList.clear();
+
+        assertThat(getTestSize()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(43)
+    void streamKeepsOrder() {
+        fillTestArray(4, 5, 6);
+
+        String elements = arrayList.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        assertThat(elements).isEqualTo("4,5,6");
+    }
+
+    @Test
+    @Order(44)
+    void spliteratorSplitsByIndexRange() {
+        fillTestArray(1, 2, 3, 4);
+
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+                .isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(2);
+        assertThat(spliterator.estimateSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(45)
+    void parallelStream() {
+        for (int i = 1; i <= 10_000; i++) {
+            arrayList.add(i);
+        }
+
+        long sum = arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo(10_000L * 10_001 / 2);
+    }
+
+    @Test
+    @Order(46)
+    void iteratorReturnsAllElements() {
+        fillTestArray(4, 5, 6);
+        StringBuilder elements = new StringBuilder();
+
+        for (Integer element : arrayList) {
+            elements.append(element);
+        }
+
+        assertThat(elements.toString()).isEqualTo("456");
+    }
+
+    @Test
+    @Order(47)
+    void iteratorThrowsExceptionWhenListIsChanged() {
+        fillTestArray(4, 5, 6);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.add(7);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(48)
+    void iteratorRemove() {
+        fillTestArray(4, 5, 6);
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next() == 5) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(getTestSize()).isEqualTo(2);
+        assertThat(getTestArray()[1]).isEqualTo(6);
+    }
+
+    @Test
+    @Order(49)
+    void subListIsFailFast() {
+        fillTestArray(1, 2, 3, 4, 5);
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        arrayList.add(0, 0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.get(0));
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.set(0, 20));
+        assertThat(arrayList.get(1)).isEqualTo(1);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
@@ -0,0 +1,175 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CopyOnWriteListTest {
+
+    private final CopyOnWriteList<Integer> list = new CopyOnWriteList<>();
+
+    @Test
+    @Order(1)
+    void addGetSetAndRemove() {
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+        list.set(2, 30);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(30);
+        assertThat(list.remove(1)).isEqualTo(2);
+        assertThat(list.contains(30)).isTrue();
+        assertThat(list.toString()).isEqualTo("[1, 30]");
+    }
+
+    @Test
+    @Order(2)
+    void emptyListAndIndexOutOfBounds() {
+        assertThat(list.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(1, 1));
+    }
+
+    @Test
+    @Order(3)
+    void bulkOperations() {
+        list.addAll(0, new Integer[]{1, 2, 3, 4, 5, 6});
+
+        list.removeRange(0, 2);
+        var removed = list.removeIf(element -> element % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(list.toArray()).containsExactly(3, 5);
+        assertThat(list.removeIf(element -> element > 10)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void iteratorWalksThroughSnapshot() {
+        list.addAll(0, new Integer[]{1, 2, 3});
+        var iterator = list.iterator();
+        var stream = list.stream();
+
+        list.add(4);
+        list.remove(0);
+
+        var iterated = new StringBuilder();
+        iterator.forEachRemaining(iterated::append);
+        assertThat(iterated.toString()).isEqualTo("123");
+        assertThat(stream.mapToInt(Integer::intValue).sum()).isEqualTo(6);
+        assertThat(list.toArray()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @Order(5)
+    void iteratorDoesNotSupportRemove() {
+        list.add(1);
+        var iterator = list.iterator();
+        iterator.next();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(iterator::remove);
+    }
+
+    /**
+     * Every writer appends its own increasing values, while a remover takes elements from the head. The values of one
+     * writer are always a gap-free increasing range in a snapshot. An iterator that reads the live list by index skips
+     * an element when the head is removed during the iteration, and leaves a gap.
+     */
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void readersSeeConsistentSnapshotsWhileWritersChangeTheList() {
+        var writers = 4;
+        var elementsPerWriter = 5_000;
+        var executor = Executors.newFixedThreadPool(writers + 2);
+        var start = new CountDownLatch(1);
+        var writersDone = new CountDownLatch(writers);
+        var writerFutures = new ArrayList<Future<?>>();
+
+        for (int w = 0; w < writers; w++) {
+            var firstValue = w * elementsPerWriter;
+            writerFutures.add(executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < elementsPerWriter; i++) {
+                        list.add(firstValue + i);
+                    }
+                } finally {
+                    writersDone.countDown();
+                }
+                return null;
+            }));
+        }
+        var remover = executor.submit(() -> {
+            start.await();
+            var removed = 0;
+            while (writersDone.getCount() > 0) {
+                if (!list.isEmpty()) {
+                    list.remove(0);
+                    removed++;
+                }
+            }
+            return removed;
+        });
+        var reader = executor.submit(() -> {
+            start.await();
+            while (writersDone.getCount() > 0) {
+                var lastSeen = new int[writers];
+                Arrays.fill(lastSeen, -1);
+                for (var element : list) {
+                    var writer = element / elementsPerWriter;
+                    var index = element % elementsPerWriter;
+                    if (lastSeen[writer] >= 0) {
+                        assertThat(index).isEqualTo(lastSeen[writer] + 1);
+                    }
+                    lastSeen[writer] = index;
+                }
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> writer : writerFutures) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        var removed = remover.get(1, TimeUnit.MINUTES);
+        reader.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(list.size() + removed).isEqualTo(writers * elementsPerWriter);
+    }
+
+    @Test
+    @Order(7)
+    void subListIsFailFast() {
+        list.addAll(0, new Integer[]{1, 2, 3, 4, 5});
+        var subList = list.subList(1, 4);
+        subList.remove(0);
+
+        assertThat(subList.getFirst()).isEqualTo(3);
+
+        list.add(0, 0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.get(0));
+        assertThat(list.toArray()).containsExactly(0, 1, 3, 4, 5);
+    }
+}
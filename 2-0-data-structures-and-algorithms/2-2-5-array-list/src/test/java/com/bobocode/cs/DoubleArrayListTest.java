@@ -0,0 +1,53 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DoubleArrayListTest {
+
+    private final DoubleArrayList list = new DoubleArrayList(2);
+
+    @Test
+    @Order(1)
+    void addGetAndSet() {
+        list.add(1.5);
+        list.add(2.5);
+        list.add(0, 0.5);
+
+        list.set(2, 3.5);
+
+        assertThat(list.toArray()).containsExactly(0.5, 1.5, 3.5);
+        assertThat(list.getLast()).isEqualTo(3.5);
+    }
+
+    @Test
+    @Order(2)
+    void containsUsesDoubleCompare() {
+        list.addAll(new double[]{Double.NaN, 0.0});
+
+        assertThat(list.contains(Double.NaN)).isTrue();
+        assertThat(list.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    void sortPutsNanLast() {
+        list.addAll(new double[]{Double.NaN, 2.0, -0.0, 0.0, -1.0});
+
+        list.sort();
+
+        assertThat(list.toArray()).containsExactly(-1.0, -0.0, 0.0, 2.0, Double.NaN);
+    }
+
+    @Test
+    @Order(4)
+    void indexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(0));
+    }
+}
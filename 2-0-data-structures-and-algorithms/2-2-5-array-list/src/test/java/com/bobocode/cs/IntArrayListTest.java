@@ -0,0 +1,121 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntArrayListTest {
+    private static final int ELEMENTS = 1_000_000;
+
+    private final IntArrayList list = new IntArrayList();
+
+    @Test
+    @Order(1)
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(0));
+    }
+
+    @Test
+    @Order(2)
+    void addAndGetElements() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+
+        assertThat(list.size()).isEqualTo(100);
+        assertThat(list.get(10)).isEqualTo(20);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(198);
+    }
+
+    @Test
+    @Order(3)
+    void addAndRemoveByIndex() {
+        list.addAll(new int[]{1, 2, 4});
+
+        list.add(2, 3);
+        list.add(0, 0);
+        var removed = list.remove(4);
+
+        assertThat(removed).isEqualTo(4);
+        assertThat(list.toArray()).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @Order(4)
+    void setAndContains() {
+        list.addAll(new int[]{5, 6, 7});
+
+        list.set(1, 60);
+
+        assertThat(list.contains(60)).isTrue();
+        assertThat(list.contains(6)).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    void indexOutOfBounds() {
+        list.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(-1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(3, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(1));
+    }
+
+    @Test
+    @Order(6)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+    }
+
+    @Test
+    @Order(7)
+    void sortInPlace() {
+        var random = new Random(1);
+        var values = random.ints(1_000).toArray();
+        list.addAll(values);
+
+        list.sort();
+        java.util.Arrays.sort(values);
+
+        assertThat(list.toArray()).isEqualTo(values);
+    }
+
+    @Test
+    @Order(8)
+    void ofAndClear() {
+        var ints = IntArrayList.of(3, 1, 2);
+
+        assertThat(ints.toString()).isEqualTo("[3, 1, 2]");
+
+        ints.clear();
+
+        assertThat(ints.isEmpty()).isTrue();
+        assertThat(ints.toArray()).isEmpty();
+    }
+
+    @Test
+    @Order(9)
+    void footprint() {
+        for (int i = 0; i < ELEMENTS; i++) {
+            list.add(i);
+        }
+
+        var bytesPerElement = (double) Integer.BYTES * list.capacity() / list.size();
+
+        assertThat(list.capacity()).isBetween(ELEMENTS, ELEMENTS / 2 * 3 + 1);
+        // ArrayList<Integer> takes a 4-byte reference and a 16-byte Integer object per element
+        assertThat(bytesPerElement).isLessThan((4 + 16) / 2.0);
+    }
+}
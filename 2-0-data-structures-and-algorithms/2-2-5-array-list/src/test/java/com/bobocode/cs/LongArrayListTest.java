@@ -0,0 +1,46 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongArrayListTest {
+
+    private final LongArrayList list = new LongArrayList(2);
+
+    @Test
+    @Order(1)
+    void addGetAndSet() {
+        list.add(Long.MAX_VALUE);
+        list.add(1L << 40);
+        list.add(1, -1L);
+
+        list.set(0, 7L);
+
+        assertThat(list.toArray()).containsExactly(7L, -1L, 1L << 40);
+        assertThat(list.contains(1L << 40)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void addAllResizesOnceAndSort() {
+        list.addAll(new long[]{5, 3, 9, 1, 7});
+
+        list.sort();
+
+        assertThat(list.toArray()).containsExactly(1L, 3L, 5L, 7L, 9L);
+        assertThat(list.remove(0)).isEqualTo(1L);
+        assertThat(list.getFirst()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(3)
+    void indexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(0));
+    }
+}
@@ -0,0 +1,374 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SegmentedListTest {
+
+    private final SegmentedList<Integer> list = new SegmentedList<>(4);
+
+    @Test
+    @Order(1)
+    void createListWithWrongChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new SegmentedList<>(0));
+    }
+
+    @Test
+    @Order(2)
+    void chunkSizeIsRoundedUpToPowerOfTwo() {
+        assertThat(new SegmentedList<>(1000).chunkSize()).isEqualTo(1024);
+        assertThat(new SegmentedList<>().chunkSize()).isEqualTo(1024);
+        assertThat(new SegmentedList<>(1).chunkSize()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    void addAndGetElementsAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        assertThat(list.size()).isEqualTo(10);
+        assertThat(list.chunkCount()).isEqualTo(3);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(4)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+    }
+
+    @Test
+    @Order(5)
+    void indexOutOfBounds() {
+        list.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(-1, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(2, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(1));
+    }
+
+    @Test
+    @Order(6)
+    void addByIndexShiftsElementsToNextChunks() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        list.add(1, 100);
+
+        assertThat(list.size()).isEqualTo(9);
+        assertThat(list.get(1)).isEqualTo(100);
+        assertThat(list.get(4)).isEqualTo(3);
+        assertThat(list.get(8)).isEqualTo(7);
+    }
+
+    @Test
+    @Order(7)
+    void removeShiftsElementsFromNextChunks() {
+        for (int i = 0; i < 9; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.remove(2)).isEqualTo(2);
+
+        assertThat(list.size()).isEqualTo(8);
+        assertThat(list.get(2)).isEqualTo(3);
+        assertThat(list.get(3)).isEqualTo(4);
+        assertThat(list.getLast()).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @Order(8)
+    @ValueSource(ints = {1, 2, 4, 64})
+    void randomOperationsGiveTheSameResultAsJavaArrayList(int chunkSize) {
+        var segmentedList = new SegmentedList<Integer>(chunkSize);
+        var expected = new java.util.ArrayList<Integer>();
+        var random = new Random(chunkSize);
+
+        for (int i = 0; i < 20_000; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    segmentedList.add(i);
+                    expected.add(i);
+                }
+                case 1 -> {
+                    var index = random.nextInt(expected.size() + 1);
+                    segmentedList.add(index, i);
+                    expected.add(index, i);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        var index = random.nextInt(expected.size());
+                        assertThat(segmentedList.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        var index = random.nextInt(expected.size());
+                        segmentedList.set(index, -i);
+                        expected.set(index, -i);
+                    }
+                }
+            }
+        }
+
+        assertThat(segmentedList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(segmentedList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    @Order(9)
+    void containsAndClear() {
+        list.add(5);
+        list.add(null);
+
+        assertThat(list.contains(5)).isTrue();
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(6)).isFalse();
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.chunkCount()).isZero();
+    }
+
+    @Test
+    @Order(10)
+    void trimToSizeReleasesUnusedChunks() {
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 7; i++) {
+            list.remove(list.size() - 1);
+        }
+
+        list.trimToSize();
+
+        assertThat(list.chunkCount()).isEqualTo(2);
+        assertThat(list.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(11)
+    @SneakyThrows
+    void appendsNeverCopyElements() {
+        var bigList = new SegmentedList<Integer>(1024);
+        bigList.add(0);
+        var firstChunk = getChunks(bigList)[0];
+
+        for (int i = 1; i < 5_000_000; i++) {
+            bigList.add(i);
+        }
+
+        assertThat(getChunks(bigList)[0]).isSameAs(firstChunk);
+        assertThat(bigList.get(4_999_999)).isEqualTo(4_999_999);
+        assertThat(bigList.chunkCount()).isEqualTo((5_000_000 + 1023) / 1024);
+    }
+
+    @Test
+    @Order(12)
+    void addAllShiftsElementsAcrossChunks() {
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+
+        list.addAll(2, new Integer[]{10, 11, 12, 13, 14});
+        list.addAll(list.size(), new Integer[]{20});
+
+        assertThat(list.size()).isEqualTo(12);
+        assertThat(list.get(1)).isEqualTo(1);
+        assertThat(list.get(2)).isEqualTo(10);
+        assertThat(list.get(6)).isEqualTo(14);
+        assertThat(list.get(7)).isEqualTo(2);
+        assertThat(list.get(10)).isEqualTo(5);
+        assertThat(list.getLast()).isEqualTo(20);
+    }
+
+    @Test
+    @Order(13)
+    @SneakyThrows
+    void removeRangeAndRemoveIfClearFreedCells() {
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+
+        list.removeRange(1, 6);
+        var removed = list.removeIf(element -> element % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(7);
+        assertThat(list.get(1)).isEqualTo(9);
+        assertThat(list.get(2)).isEqualTo(11);
+        assertThat(getChunks(list)[0][3]).isNull();
+        assertThat(getChunks(list)[1][3]).isNull();
+    }
+
+    @Test
+    @Order(14)
+    void subListIsViewOfTheList() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        var subList = list.subList(2, 8);
+        subList.addAll(0, new Integer[]{-1, -2});
+        subList.subList(2, 4).clear();
+
+        assertThat(subList.size()).isEqualTo(6);
+        assertThat(subList.getFirst()).isEqualTo(-1);
+        assertThat(subList.get(2)).isEqualTo(4);
+        assertThat(list.size()).isEqualTo(10);
+        assertThat(list.get(4)).isEqualTo(4);
+        assertThat(list.get(8)).isEqualTo(8);
+
+        assertThat(subList.removeIf(element -> element % 2 == 0)).isTrue();
+        assertThat(subList.removeIf(element -> element > 100)).isFalse();
+
+        assertThat(subList.stream()).containsExactly(-1, 5, 7);
+        assertThat(list.stream()).containsExactly(0, 1, -1, 5, 7, 8, 9);
+    }
+
+    @Test
+    @Order(15)
+    void parallelStreamGivesTheSameResultAsSequential() {
+        var bigList = new SegmentedList<Integer>();
+        for (int i = 0; i < 2_000_000; i++) {
+            bigList.add(i % 1000);
+        }
+
+        var sequentialSum = bigList.stream().mapToLong(Integer::longValue).sum();
+        var parallelSum = bigList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(parallelSum).isEqualTo(sequentialSum).isEqualTo(2_000L * 999 * 1000 / 2);
+        assertThat(bigList.parallelStream().skip(1_500).findFirst()).contains(500);
+    }
+
+    @Test
+    @Order(16)
+    void iteratorIsFailFast() {
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        var iterator = list.iterator();
+        iterator.next();
+
+        list.removeRange(0, 1);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(17)
+    void iteratorRemoveAndSetDoNotBreakIteration() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        var sum = 0;
+
+        var iterator = list.iterator();
+        while (iterator.hasNext()) {
+            var element = iterator.next();
+            sum += element;
+            if (element % 3 == 0) {
+                iterator.remove();
+            } else {
+                list.set(0, element);
+            }
+        }
+
+        assertThat(sum).isEqualTo(45);
+        assertThat(list.size()).isEqualTo(6);
+        assertThat(list.get(5)).isEqualTo(8);
+    }
+
+    @Test
+    @Order(18)
+    void subListIsFailFast() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        var subList = list.subList(2, 8);
+        var nestedSubList = subList.subList(1, 3);
+        subList.set(0, 20);
+        nestedSubList.add(30);
+
+        assertThat(subList.get(3)).isEqualTo(30);
+        assertThat(subList.size()).isEqualTo(7);
+
+        list.add(0, -1);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.get(0));
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() -> subList.set(0, 1));
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(nestedSubList::size);
+        assertThat(list.get(3)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(19)
+    void removeIfKeepsListWhenPredicateThrows() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.removeIf(element -> {
+            if (element == 7) {
+                throw new IllegalStateException();
+            }
+            return element % 2 == 0;
+        }));
+
+        assertThat(list.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(20)
+    void removeIfThrowsWhenPredicateChangesList() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> list.removeIf(element -> {
+                    if (element == 5) {
+                        list.add(100);
+                    }
+                    return element % 2 == 0;
+                }));
+        assertThat(list.size()).isEqualTo(11);
+    }
+
+    @SneakyThrows
+    private Object[][] getChunks(SegmentedList<?> segmentedList) {
+        var chunksField = SegmentedList.class.getDeclaredField("chunks");
+        chunksField.setAccessible(true);
+        return (Object[][]) chunksField.get(segmentedList);
+    }
+}
@@ -0,0 +1,162 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlTree} is a self-balancing implementation of a {@link BinarySearchTree}. Every node stores the height of its
+ * subtree, and the heights of the left and the right subtrees of any node differ by not more than one. When an insert
+ * breaks this rule, the subtree is fixed with one or two rotations on the way back to the root.
+ * <p>
+ * The depth of a tree of n elements is not more than about 1.44 * log2(n), so insert and contains take O(log n) time
+ * for any order of inserted elements, including sorted and reverse sorted ones, where {@link RecursiveBinarySearchTree}
+ * turns into a linked list. An AVL tree is balanced more strictly than {@link RedBlackTree}, so it is a bit faster for
+ * searches, but it makes more rotations on insert.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int height;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlTree<T> of(T... elements) {
+        var tree = new AvlTree<T>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        return size > sizeBefore;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the root, which is stored in the node, so it takes constant time.
+     *
+     * @return max. number of transitions between root node and any other node; 0 - if tree is empty or has one element
+     */
+    @Override
+    public int depth() {
+        return root == null ? 0 : root.height;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Restores the balance of a node whose subtree heights differ by two. If the higher subtree leans to the other
+     * side, it is rotated first, so a single rotation of the node makes it balanced.
+     */
+    private Node<T> balance(Node<T> node) {
+        updateHeight(node);
+        int balance = balanceFactor(node);
+        if (balance > 1) {
+            if (balanceFactor(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (balanceFactor(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private void updateHeight(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private int balanceFactor(Node<T> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    /**
+     * @return a height of a subtree, where a single node has height 0 and an empty subtree has height -1
+     */
+    private int height(Node<T> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+}
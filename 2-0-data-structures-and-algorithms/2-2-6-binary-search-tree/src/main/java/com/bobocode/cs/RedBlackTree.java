@@ -0,0 +1,154 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link RedBlackTree} is a self-balancing implementation of a {@link BinarySearchTree}. It is a left-leaning
+ * red-black tree: every link to a node is either black or red, a red link always goes to the left child, and no node
+ * has two red links. Every path from the root to an empty subtree goes through the same number of black links.
+ * <p>
+ * A new element is always linked with a red link, and on the way back to the root a right red link is rotated to the
+ * left, two red links in a row are rotated to the right, and a node with two red children flips the colors. So the
+ * depth of a tree of n elements is not more than 2 * log2(n + 1), and insert and contains take O(log n) time for any
+ * order of inserted elements. It makes fewer rotations on insert than {@link AvlTree}, but the tree is less strictly
+ * balanced.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class RedBlackTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    private Node<T> root;
+    private int size;
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        boolean color = RED;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> RedBlackTree<T> of(T... elements) {
+        var tree = new RedBlackTree<T>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        root.color = BLACK;
+        return size > sizeBefore;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root == null ? 0 : depth(root);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        if (isRed(node.right) && !isRed(node.left)) {
+            node = rotateLeft(node);
+        }
+        if (isRed(node.left) && isRed(node.left.left)) {
+            node = rotateRight(node);
+        }
+        if (isRed(node.left) && isRed(node.right)) {
+            flipColors(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        newRoot.color = node.color;
+        node.color = RED;
+        return newRoot;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        newRoot.color = node.color;
+        node.color = RED;
+        return newRoot;
+    }
+
+    private void flipColors(Node<T> node) {
+        node.color = RED;
+        node.left.color = BLACK;
+        node.right.color = BLACK;
+    }
+
+    private boolean isRed(Node<T> node) {
+        return node != null && node.color == RED;
+    }
+
+    private int depth(Node<T> node) {
+        int leftDepth = node.left == null ? 0 : 1 + depth(node.left);
+        int rightDepth = node.right == null ? 0 : 1 + depth(node.right);
+        return Math.max(leftDepth, rightDepth);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bobocode.cs;
+
+class AvlTreeTest extends BalancedBinarySearchTreeTest {
+    @Override
+    BinarySearchTree<Integer> treeOf(Integer... elements) {
+        return AvlTree.of(elements);
+    }
+
+    /**
+     * The heights of the subtrees of any node differ by not more than one, so the depth is within 1.44 * log2(n + 2).
+     */
+    @Override
+    int maxDepth(int size) {
+        return (int) (1.44 * log2(size + 2));
+    }
+}
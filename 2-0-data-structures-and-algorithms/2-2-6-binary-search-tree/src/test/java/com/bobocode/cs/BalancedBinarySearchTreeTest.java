@@ -0,0 +1,113 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * Common tests of self-balancing implementations of {@link BinarySearchTree}. A subclass creates a tree and provides
+ * the max depth that the tree guarantees for a given number of elements.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+abstract class BalancedBinarySearchTreeTest {
+    private static final int ELEMENTS = 100_000;
+
+    private final BinarySearchTree<Integer> tree = treeOf();
+
+    /**
+     * @param elements elements to insert
+     * @return a new tree with given elements
+     */
+    abstract BinarySearchTree<Integer> treeOf(Integer... elements);
+
+    /**
+     * @param size a number of elements
+     * @return max depth of a tree of a given size
+     */
+    abstract int maxDepth(int size);
+
+    static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    @Test
+    @Order(1)
+    void insertAndContains() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(15)).isTrue();
+        assertThat(tree.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void nullElementsAreNotAccepted() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(3)
+    void depthOfSmallTrees() {
+        assertThat(tree.depth()).isZero();
+        tree.insert(1);
+        assertThat(tree.depth()).isZero();
+        tree.insert(2);
+        assertThat(tree.depth()).isEqualTo(1);
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    void inOrderTraversalVisitsElementsInSortedOrder() {
+        var elements = new ArrayList<>(IntStream.range(0, 1_000).boxed().toList());
+        Collections.shuffle(elements, new Random(42));
+        var testTree = treeOf(elements.toArray(new Integer[0]));
+        var traversed = new ArrayList<Integer>();
+
+        testTree.inOrderTraversal(traversed::add);
+
+        assertThat(testTree.size()).isEqualTo(1_000);
+        assertThat(traversed).isSorted().hasSize(1_000);
+    }
+
+    /**
+     * Inserts elements in sorted, reverse sorted and random order. An unbalanced tree would have a depth of n - 1 for
+     * the first two, while a balanced one must stay within {@link BalancedBinarySearchTreeTest#maxDepth(int)}.
+     */
+    @ParameterizedTest(name = "{0} order")
+    @EnumSource(InsertOrder.class)
+    @Order(5)
+    void depthStaysLogarithmicForAnyInsertOrder(InsertOrder order) {
+        int[] elements = order.elements(ELEMENTS);
+        var testTree = treeOf();
+
+        for (int element : elements) {
+            testTree.insert(element);
+        }
+
+        assertThat(testTree.size()).isEqualTo(ELEMENTS);
+        for (int element : elements) {
+            assertThat(testTree.contains(element)).isTrue();
+        }
+        assertThat(testTree.contains(-1)).isFalse();
+        assertThat(testTree.depth()).isLessThanOrEqualTo(maxDepth(ELEMENTS));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks of self-balancing trees. They print their measurements instead of checking them, because timings depend
+ * on the machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BinarySearchTreeBenchmark {
+    private static final int ELEMENTS = 1_000_000;
+
+    /**
+     * Inserts a million elements in sorted, reverse sorted and random order, and then looks every one of them up.
+     * The time is printed next to {@link TreeSet}, which is a red-black tree as well.
+     */
+    @ParameterizedTest(name = "{0} order")
+    @EnumSource(InsertOrder.class)
+    @Order(1)
+    void insertAndContains(InsertOrder order) {
+        int[] elements = order.elements(ELEMENTS);
+        var avlTree = new AvlTree<Integer>();
+        var redBlackTree = new RedBlackTree<Integer>();
+        var treeSet = new TreeSet<Integer>();
+
+        var avlTreeNanos = insertAndContains(elements, avlTree::insert, avlTree::contains);
+        var redBlackTreeNanos = insertAndContains(elements, redBlackTree::insert, redBlackTree::contains);
+        var treeSetNanos = insertAndContains(elements, treeSet::add, treeSet::contains);
+
+        System.out.printf("%s order: AvlTree depth %d in %d ms, RedBlackTree depth %d in %d ms, TreeSet in %d ms%n",
+                order, avlTree.depth(), avlTreeNanos / 1_000_000, redBlackTree.depth(),
+                redBlackTreeNanos / 1_000_000, treeSetNanos / 1_000_000);
+    }
+
+    private long insertAndContains(int[] elements, IntPredicate insert, IntPredicate contains) {
+        var startTime = System.nanoTime();
+        for (int element : elements) {
+            insert.test(element);
+        }
+        int found = 0;
+        for (int element : elements) {
+            found += contains.test(element) ? 1 : 0;
+        }
+        var nanos = System.nanoTime() - startTime;
+        assertThat(found).isEqualTo(elements.length);
+        return nanos;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * {@link InsertOrder} generates distinct elements in an order that is inserted into a tree. An unbalanced tree turns
+ * into a linked list for sorted and reverse sorted elements, so self-balancing trees are checked on all the orders.
+ */
+enum InsertOrder {
+    SORTED,
+    REVERSE_SORTED,
+    RANDOM;
+
+    /**
+     * @param count a number of elements
+     * @return distinct elements in this order
+     */
+    int[] elements(int count) {
+        return switch (this) {
+            case SORTED -> IntStream.range(0, count).toArray();
+            case REVERSE_SORTED -> IntStream.range(0, count).map(i -> count - 1 - i).toArray();
+            case RANDOM -> new Random(42).ints(0, Integer.MAX_VALUE).distinct().limit(count).toArray();
+        };
+    }
+}
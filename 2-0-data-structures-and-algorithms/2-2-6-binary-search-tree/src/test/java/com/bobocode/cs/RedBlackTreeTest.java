@@ -0,0 +1,17 @@
+package com.bobocode.cs;
+
+class RedBlackTreeTest extends BalancedBinarySearchTreeTest {
+    @Override
+    BinarySearchTree<Integer> treeOf(Integer... elements) {
+        return RedBlackTree.of(elements);
+    }
+
+    /**
+     * Every path goes through the same number of black links, and no two red links go in a row, so the depth is
+     * within 2 * log2(n + 1).
+     */
+    @Override
+    int maxDepth(int size) {
+        return (int) (2 * log2(size + 1));
+    }
+}
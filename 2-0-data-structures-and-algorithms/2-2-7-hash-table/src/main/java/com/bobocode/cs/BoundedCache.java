@@ -0,0 +1,492 @@
+package com.bobocode.cs;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link BoundedCache} is an implementation of {@link Map} that stores not more than a given number of entries. When
+ * a new entry does not fit, the cache evicts another one. Unlike {@link HashTable}, it can be used as a cache in front
+ * of slow lookups without growing until the heap is full.
+ * <p>
+ * Entries are indexed by a {@link RobinHoodHashTable}, and every entry is also a node of a doubly linked list ordered
+ * by access time. A hit moves a node to the tail of the list, and the head of the list is evicted, so all operations
+ * are O(1). The cache supports two eviction policies:
+ * <ul>
+ *     <li>{@link Policy#LRU} evicts the least recently used entry</li>
+ *     <li>{@link Policy#TINY_LFU} (W-TinyLFU) puts new entries into a small LRU window. An entry that leaves the
+ *     window is admitted to the main space only if it was used more often than the entry that would be evicted
+ *     instead. Frequencies are approximated by a count-min sketch with 4-bit counters that are halved periodically,
+ *     so old popularity fades away. A scan of one-time keys cannot flush frequently used entries.</li>
+ * </ul>
+ * Entries can also expire after a given time since they were created or updated. Entries are kept in one more list
+ * ordered by write time, so expired entries are removed from its head on every operation.
+ * <p>
+ * The cache counts hits, misses and evictions (including expirations). Null keys and values are not supported. This
+ * class is not thread-safe.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> implements Map<K, V> {
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    /**
+     * An eviction policy.
+     */
+    public enum Policy {
+        LRU, TINY_LFU
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        long writeTime;
+        Segment segment;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> writePrev;
+        Node<K, V> writeNext;
+
+        Node(K key, V value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    private final int maximumSize;
+    private final Policy policy;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier nanoClock;
+    private final RobinHoodHashTable<K, Node<K, V>> index;
+    private final FrequencySketch sketch;
+    private final NodeList<K, V> window = new NodeList<>();
+    private final NodeList<K, V> probation = new NodeList<>();
+    private final NodeList<K, V> protectedSpace = new NodeList<>();
+    private final int windowMaximumSize;
+    private final int protectedMaximumSize;
+    private Node<K, V> writeHead;
+    private Node<K, V> writeTail;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, Policy.LRU);
+    }
+
+    public BoundedCache(int maximumSize, Policy policy) {
+        this(maximumSize, policy, null, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with given parameters.
+     *
+     * @param maximumSize      max number of entries
+     * @param policy           an eviction policy
+     * @param expireAfterWrite time after which an entry expires since it was created or updated, or null if entries
+     *                         never expire
+     * @param nanoClock        a source of time in nanoseconds, e.g. System::nanoTime
+     * @throws IllegalArgumentException if max size is not positive or expiration time is not positive
+     */
+    public BoundedCache(int maximumSize, Policy policy, Duration expireAfterWrite, LongSupplier nanoClock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+            throw new IllegalArgumentException("Expiration time must be positive: " + expireAfterWrite);
+        }
+        this.maximumSize = maximumSize;
+        this.policy = Objects.requireNonNull(policy);
+        this.expireAfterWriteNanos = expireAfterWrite != null ? expireAfterWrite.toNanos() : Long.MAX_VALUE;
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.index = new RobinHoodHashTable<>(Math.max(1, (int) Math.min((maximumSize + 1) * 4L / 3 + 1, 1 << 30)));
+        if (policy == Policy.TINY_LFU) {
+            this.sketch = new FrequencySketch(maximumSize);
+            this.windowMaximumSize = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+            this.protectedMaximumSize = (maximumSize - windowMaximumSize) * PROTECTED_PERCENT / 100;
+        } else {
+            this.sketch = null;
+            this.windowMaximumSize = maximumSize;
+            this.protectedMaximumSize = 0;
+        }
+    }
+
+    /**
+     * Creates or updates a mapping. If the cache is full, it evicts an entry according to the policy. In TinyLFU mode
+     * it can be the new entry itself, if it's used less often than the entries that are already cached.
+     *
+     * @param key   a key
+     * @param value a value
+     * @return an old value or null
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        long now = nanoClock.getAsLong();
+        expireEntries(now);
+        recordAccess(key);
+        var node = index.get(key);
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            node.writeTime = now;
+            unlinkWrite(node);
+            linkWriteLast(node);
+            onHit(node);
+            return oldValue;
+        }
+        node = new Node<>(key, value, now);
+        index.put(key, node);
+        linkWriteLast(node);
+        node.segment = Segment.WINDOW;
+        window.addLast(node);
+        evictEntries();
+        return null;
+    }
+
+    /**
+     * Returns a cached value and marks the entry as recently used. It counts a hit or a miss.
+     *
+     * @param key a key
+     * @return a value or null if there is no such key or the entry expired
+     */
+    @Override
+    public V get(K key) {
+        expireEntries(nanoClock.getAsLong());
+        recordAccess(key);
+        var node = index.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onHit(node);
+        return node.value;
+    }
+
+    /**
+     * Checks if the cache contains a given key. Unlike get, it does not count a hit or a miss and does not change
+     * the eviction order.
+     *
+     * @param key a key
+     * @return true if there is such key
+     */
+    @Override
+    public boolean containsKey(K key) {
+        expireEntries(nanoClock.getAsLong());
+        return index.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        expireEntries(nanoClock.getAsLong());
+        var cursor = index.cursor();
+        while (cursor.advance()) {
+            if (cursor.value().value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        expireEntries(nanoClock.getAsLong());
+        return index.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        expireEntries(nanoClock.getAsLong());
+        var node = index.get(key);
+        if (node == null) {
+            return null;
+        }
+        removeNode(node);
+        return node.value;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        expireEntries(nanoClock.getAsLong());
+        index.forEach((key, node) -> action.accept(key, node.value));
+    }
+
+    @Override
+    public Cursor<K, V> cursor() {
+        expireEntries(nanoClock.getAsLong());
+        var nodes = index.cursor();
+        return new Cursor<>() {
+            @Override
+            public boolean advance() {
+                return nodes.advance();
+            }
+
+            @Override
+            public K key() {
+                return nodes.key();
+            }
+
+            @Override
+            public V value() {
+                return nodes.value().value;
+            }
+
+            @Override
+            public void reset() {
+                nodes.reset();
+            }
+        };
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries that were evicted because the cache was full or they expired. Entries that were
+     * removed explicitly are not counted.
+     *
+     * @return eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return a ratio of hits to all get calls, or 0 if get was never called
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    private void recordAccess(K key) {
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+    }
+
+    private void onHit(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protectedSpace.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.segment = Segment.PROTECTED;
+                protectedSpace.addLast(node);
+                if (protectedSpace.size > protectedMaximumSize) {
+                    var demoted = protectedSpace.first();
+                    protectedSpace.remove(demoted);
+                    demoted.segment = Segment.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves entries that don't fit the window to probation, and evicts entries until the cache fits its maximum size.
+     * In LRU mode the window takes the whole cache, so the head of the window is evicted.
+     */
+    private void evictEntries() {
+        while (policy == Policy.TINY_LFU && window.size > windowMaximumSize) {
+            var candidate = window.first();
+            window.remove(candidate);
+            candidate.segment = Segment.PROBATION;
+            probation.addLast(candidate);
+        }
+        while (index.size() > maximumSize) {
+            if (policy == Policy.LRU) {
+                evict(window.first());
+            } else {
+                var candidate = probation.last();
+                var victim = probation.first() != candidate ? probation.first() : protectedSpace.first();
+                if (victim == null) {
+                    victim = window.first();
+                }
+                boolean admit = sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode());
+                evict(admit ? victim : candidate);
+            }
+        }
+    }
+
+    private void expireEntries(long now) {
+        while (writeHead != null && now - writeHead.writeTime >= expireAfterWriteNanos) {
+            evict(writeHead);
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        removeNode(node);
+        evictionCount++;
+    }
+
+    private void removeNode(Node<K, V> node) {
+        index.remove(node.key);
+        unlinkWrite(node);
+        switch (node.segment) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedSpace.remove(node);
+        }
+    }
+
+    private void linkWriteLast(Node<K, V> node) {
+        node.writePrev = writeTail;
+        node.writeNext = null;
+        if (writeTail == null) {
+            writeHead = node;
+        } else {
+            writeTail.writeNext = node;
+        }
+        writeTail = node;
+    }
+
+    private void unlinkWrite(Node<K, V> node) {
+        if (node.writePrev == null) {
+            writeHead = node.writeNext;
+        } else {
+            node.writePrev.writeNext = node.writeNext;
+        }
+        if (node.writeNext == null) {
+            writeTail = node.writePrev;
+        } else {
+            node.writeNext.writePrev = node.writePrev;
+        }
+        node.writePrev = null;
+        node.writeNext = null;
+    }
+
+    /**
+     * A doubly linked list of nodes ordered by access time. The first node is the least recently used one.
+     */
+    private static class NodeList<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        Node<K, V> last() {
+            return tail;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * A count-min sketch that estimates how often a key was used. It has 4 rows of 4-bit counters packed into longs.
+     * A key increments one counter in every row, and its frequency is the minimum of those counters, so collisions
+     * can only overestimate it. Once the number of increments reaches 10 times the cache size, all counters are
+     * halved.
+     */
+    private static class FrequencySketch {
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int[] SEEDS = {0x97CB3127, 0xB71C6A6D, 0x5C3A8B11, 0xE8D3F4C5};
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 26)) - 1) << 1;
+            this.table = new long[length / 4];
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        void increment(int hashCode) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int hash = HashSpreader.murmur3Finalizer(hashCode ^ SEEDS[row]);
+                int slot = hash & (table.length - 1);
+                int shift = (hash >>> 28) << 2;
+                if (((table[slot] >>> shift) & 0xF) < 0xF) {
+                    table[slot] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hashCode) {
+            int frequency = Integer.MAX_VALUE;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int hash = HashSpreader.murmur3Finalizer(hashCode ^ SEEDS[row]);
+                int slot = hash & (table.length - 1);
+                int shift = (hash >>> 28) << 2;
+                frequency = Math.min(frequency, (int) ((table[slot] >>> shift) & 0xF));
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+    }
+}
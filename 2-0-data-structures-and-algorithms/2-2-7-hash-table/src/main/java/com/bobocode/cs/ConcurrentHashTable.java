@@ -0,0 +1,420 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link ConcurrentHashTable} is a thread-safe implementation of {@link Map} interface. Like {@link HashTable}, it is
+ * based on the array of linked {@link Node} objects, but it allows many threads to use the table at the same time.
+ * <p>
+ * Read operations (get, containsKey, containsValue) do not use locks at all. A {@link Node} is immutable except
+ * its value, so a bucket is never changed in place. A new head node is published instead, and a reader always sees
+ * a consistent chain.
+ * <p>
+ * Write operations use <em>lock striping</em>. There is a fixed number of locks (stripes), and every bucket is guarded
+ * by one of them, so threads that change different stripes do not block each other. The table capacity is always
+ * a power of two and not less than the number of stripes, so a key is guarded by the same stripe before and after
+ * the resize. The resize acquires all the stripes.
+ * <p>
+ * The number of entries is stored in a {@link LongAdder}, so writers do not compete for a single counter.
+ * Null keys and null values are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int HISTOGRAM_LENGTH = 8;
+
+    private final Stripe[] stripes;
+    private final LongAdder size = new LongAdder();
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private volatile int resizeCount;
+    private volatile long resizeNanos;
+
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A lock that guards a group of buckets. It also counts the entries of its buckets, which is used to decide when
+     * the table should grow.
+     */
+    private static class Stripe extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        int count;
+    }
+
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a table with a given initial capacity and a number of stripes.
+     *
+     * @param initialCapacity  an initial size of the underlying array
+     * @param concurrencyLevel an expected number of concurrently writing threads, that is used as a number of stripes
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public ConcurrentHashTable(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+        int stripeCount = powerOfTwoFor(concurrencyLevel);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.table = new AtomicReferenceArray<>(Math.max(powerOfTwoFor(initialCapacity), stripeCount));
+    }
+
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        Stripe stripe = stripeFor(hash);
+        boolean resizeNeeded;
+        AtomicReferenceArray<Node<K, V>> currentTable;
+        stripe.lock();
+        try {
+            currentTable = table;
+            int index = hash & (currentTable.length() - 1);
+            var head = currentTable.get(index);
+            for (var current = head; current != null; current = current.next) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    V oldValue = current.value;
+                    current.value = value;
+                    return oldValue;
+                }
+            }
+            currentTable.set(index, new Node<>(hash, key, value, head));
+            size.increment();
+            stripe.count++;
+            resizeNeeded = stripe.count > currentTable.length() / stripes.length * LOAD_FACTOR
+                    && currentTable.length() < MAXIMUM_CAPACITY;
+        } finally {
+            stripe.unlock();
+        }
+        if (resizeNeeded) {
+            resize(currentTable.length() << 1, currentTable);
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        var node = findNode(Objects.requireNonNull(key));
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(Objects.requireNonNull(key)) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        var currentTable = table;
+        for (int i = 0; i < currentTable.length(); i++) {
+            for (var current = currentTable.get(i); current != null; current = current.next) {
+                if (current.value.equals(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of entries. If other threads change the table at the same time, the result is an estimate.
+     *
+     * @return the number of entries
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.sum() == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        int hash = hash(key);
+        Stripe stripe = stripeFor(hash);
+        stripe.lock();
+        try {
+            var currentTable = table;
+            int index = hash & (currentTable.length() - 1);
+            var head = currentTable.get(index);
+            for (var current = head; current != null; current = current.next) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    currentTable.set(index, unlink(head, current));
+                    size.decrement();
+                    stripe.count--;
+                    return current.value;
+                }
+            }
+            return null;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Performs a given action for each entry. It does not use locks, so it may or may not see the changes that are
+     * made by other threads at the same time.
+     *
+     * @param action an action that accepts a key and a value
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        var currentTable = table;
+        for (int i = 0; i < currentTable.length(); i++) {
+            for (var current = currentTable.get(i); current != null; current = current.next) {
+                action.accept(current.key, current.value);
+            }
+        }
+    }
+
+    /**
+     * Creates a cursor that walks through the array that is used at the moment of the call. It does not use locks,
+     * so it may or may not see the changes that are made by other threads after that.
+     *
+     * @return a new cursor
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new BucketCursor();
+    }
+
+    /**
+     * {@inheritDoc} It is not atomic: the entries are added one by one, so other threads can see some of them before
+     * this method returns.
+     *
+     * @param other a map to copy entries from
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> other) {
+        ensureCapacity(size.sum() + other.size());
+        other.forEach(this::put);
+    }
+
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        Map.checkSameLength(keys, values);
+        ensureCapacity(size.sum() + keys.length);
+        Map.super.putAll(keys, values);
+    }
+
+    /**
+     * Creates a string that represents an underlying array in the same format as {@link HashTable#toString()}.
+     *
+     * @return a string representation of the table
+     */
+    @Override
+    public String toString() {
+        var currentTable = table;
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < currentTable.length(); i++) {
+            result.append(i).append(": ");
+            for (var current = currentTable.get(i); current != null; current = current.next) {
+                result.append(current.key).append("=").append(current.value);
+                if (current.next != null) {
+                    result.append(" -> ");
+                }
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates a snapshot of the table state. It does not use locks and walks through the array once, so it can be
+     * called periodically by a metrics thread. If other threads change the table at the same time, the snapshot is
+     * an estimate.
+     *
+     * @return a new stats snapshot
+     */
+    public HashTableStats stats() {
+        var currentTable = table;
+        var histogram = new int[HISTOGRAM_LENGTH];
+        int maxChainLength = 0;
+        int nodes = 0;
+        for (int i = 0; i < currentTable.length(); i++) {
+            int chainLength = 0;
+            for (var current = currentTable.get(i); current != null; current = current.next) {
+                chainLength++;
+            }
+            if (chainLength >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, chainLength + 1);
+            }
+            histogram[chainLength]++;
+            maxChainLength = Math.max(maxChainLength, chainLength);
+            nodes += chainLength;
+        }
+        return new HashTableStats(currentTable.length(), nodes, Arrays.copyOf(histogram, maxChainLength + 1),
+                maxChainLength, resizeCount, resizeNanos,
+                HashTableStats.estimateRetainedBytes(currentTable.length(), nodes));
+    }
+
+    /**
+     * Creates a new underlying array and copies all the elements there. It acquires all the stripes, so all writers
+     * wait until it's done, while readers continue using the old array.
+     *
+     * @param newCapacity a size of the new underlying array, it is rounded up to the closest power of two
+     */
+    public void resizeTable(int newCapacity) {
+        resize(newCapacity, null);
+    }
+
+    private class BucketCursor implements Cursor<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> buckets = table;
+        private int index = -1;
+        private Node<K, V> current;
+
+        @Override
+        public boolean advance() {
+            if (current != null) {
+                current = current.next;
+            }
+            while (current == null && index + 1 < buckets.length()) {
+                current = buckets.get(++index);
+            }
+            return current != null;
+        }
+
+        @Override
+        public K key() {
+            checkPosition();
+            return current.key;
+        }
+
+        @Override
+        public V value() {
+            checkPosition();
+            return current.value;
+        }
+
+        @Override
+        public void reset() {
+            index = -1;
+            current = null;
+        }
+
+        private void checkPosition() {
+            if (current == null) {
+                throw new IllegalStateException("Cursor does not point to an entry");
+            }
+        }
+    }
+
+    private void ensureCapacity(long expectedSize) {
+        var currentTable = table;
+        long neededCapacity = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR);
+        if (neededCapacity > currentTable.length()) {
+            resize((int) Math.min(neededCapacity, MAXIMUM_CAPACITY), currentTable);
+        }
+    }
+
+    /**
+     * Resizes the table. If an expected table is given, the resize is skipped when another thread has already replaced
+     * it while this thread was waiting for the stripes.
+     */
+    private void resize(int newCapacity, AtomicReferenceArray<Node<K, V>> expectedTable) {
+        for (Stripe stripe : stripes) {
+            stripe.lock();
+        }
+        try {
+            var oldTable = table;
+            int capacity = Math.max(powerOfTwoFor(newCapacity), stripes.length);
+            if (expectedTable != null && expectedTable != oldTable || capacity == oldTable.length()) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            var newTable = new AtomicReferenceArray<Node<K, V>>(capacity);
+            for (int i = 0; i < oldTable.length(); i++) {
+                for (var current = oldTable.get(i); current != null; current = current.next) {
+                    int index = current.hash & (capacity - 1);
+                    newTable.set(index, new Node<>(current.hash, current.key, current.value, newTable.get(index)));
+                }
+            }
+            table = newTable;
+            resizeCount++;
+            resizeNanos += System.nanoTime() - startTime;
+        } finally {
+            for (Stripe stripe : stripes) {
+                stripe.unlock();
+            }
+        }
+    }
+
+    private Node<K, V> findNode(Object key) {
+        int hash = hash(key);
+        while (true) {
+            var currentTable = table;
+            var current = currentTable.get(hash & (currentTable.length() - 1));
+            if (currentTable == table) {
+                for (; current != null; current = current.next) {
+                    if (current.hash == hash && current.key.equals(key)) {
+                        return current;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Nodes are immutable, so the nodes that precede the removed one are copied, and the last copy is linked to the
+     * node that follows the removed one.
+     */
+    private Node<K, V> unlink(Node<K, V> head, Node<K, V> removed) {
+        var newHead = removed.next;
+        for (var current = head; current != removed; current = current.next) {
+            newHead = new Node<>(current.hash, current.key, current.value, newHead);
+        }
+        return newHead;
+    }
+
+    private Stripe stripeFor(int hash) {
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private static int powerOfTwoFor(int value) {
+        if (value >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
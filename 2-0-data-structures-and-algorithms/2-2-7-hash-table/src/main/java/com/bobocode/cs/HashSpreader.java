@@ -0,0 +1,114 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link HashSpreader} is a function that turns a key hash code into an array index. Hash codes of real keys are often
+ * poorly distributed: sequential ids differ only in the lower bits, some strings differ only in the higher bits, and
+ * ids with a common step (e.g. 16 or 1024) have the same lower bits. When an index is taken from such hash code as is,
+ * many keys get the same index and form long chains.
+ * <p>
+ * A spreader mixes the bits of a hash code first, so every bit of it affects the index. Different spreaders make
+ * different trade-offs between speed and quality:
+ * <ul>
+ *     <li>{@link HashSpreader#IDENTITY} uses a hash code as is</li>
+ *     <li>{@link HashSpreader#XOR_SHIFT} mixes higher 16 bits into the lower ones, like {@link java.util.HashMap}</li>
+ *     <li>{@link HashSpreader#MURMUR3} uses a MurmurHash3 finalizer, where every input bit affects every output bit</li>
+ *     <li>{@link HashSpreader#FIBONACCI} multiplies a hash code by 2^32 / golden ratio and takes the higher bits</li>
+ *     <li>{@link HashSpreader#seeded(int)} mixes a hash code with a seed, so different hash codes that get the same
+ *     index in one table get different indexes in another</li>
+ * </ul>
+ * A spreader sees only a hash code, so keys with equal hash codes (e.g. "Aa" and "BB") always get the same index,
+ * whatever spreader is used. Only tree buckets of {@link HashTable} bound lookups of such keys.
+ */
+@FunctionalInterface
+public interface HashSpreader {
+    /**
+     * 2^32 divided by the golden ratio. Multiplication by this number spreads consecutive values evenly.
+     */
+    int GOLDEN_RATIO = 0x9E3779B9;
+
+    HashSpreader IDENTITY = hashCode -> hashCode;
+
+    HashSpreader XOR_SHIFT = hashCode -> hashCode ^ (hashCode >>> 16);
+
+    HashSpreader MURMUR3 = HashSpreader::murmur3Finalizer;
+
+    HashSpreader FIBONACCI = new HashSpreader() {
+        @Override
+        public int spread(int hashCode) {
+            return hashCode * GOLDEN_RATIO;
+        }
+
+        /**
+         * Takes the higher bits of a spread hash code, because the multiplication moves all the entropy there. For
+         * a power-of-two table it's the same as taking the highest log2(capacity) bits.
+         */
+        @Override
+        public int index(int hashCode, int tableCapacity) {
+            return (int) (((spread(hashCode) & 0xFFFFFFFFL) * tableCapacity) >>> 32);
+        }
+    };
+
+    /**
+     * Mixes the bits of a given hash code.
+     *
+     * @param hashCode a key hash code
+     * @return a spread hash code
+     */
+    int spread(int hashCode);
+
+    /**
+     * Calculates an array index for a given hash code. A power-of-two capacity allows to use a bit mask instead of
+     * a division, other capacities use a remainder.
+     *
+     * @param hashCode      a key hash code
+     * @param tableCapacity underlying array size
+     * @return an index in the range [0, tableCapacity)
+     */
+    default int index(int hashCode, int tableCapacity) {
+        int hash = spread(hashCode);
+        if ((tableCapacity & (tableCapacity - 1)) == 0) {
+            return hash & (tableCapacity - 1);
+        }
+        return Math.floorMod(hash, tableCapacity);
+    }
+
+    /**
+     * Creates a spreader that mixes a hash code with a given seed. Two tables with different seeds put the same keys
+     * into different buckets.
+     *
+     * @param seed a seed
+     * @return a new spreader
+     */
+    static HashSpreader seeded(int seed) {
+        return hashCode -> murmur3Finalizer(hashCode ^ seed);
+    }
+
+    /**
+     * Creates a spreader with a random seed. It breaks up collisions of different hash codes that come from the index
+     * mapping, but not collisions of equal hash codes.
+     *
+     * @return a new spreader
+     */
+    static HashSpreader randomized() {
+        return seeded(ThreadLocalRandom.current().nextInt());
+    }
+
+    /**
+     * A final step of MurmurHash3. It has an avalanche effect: flipping any input bit flips about half of the output
+     * bits.
+     *
+     * @param hashCode a hash code
+     * @return a mixed hash code
+     */
+    static int murmur3Finalizer(int hashCode) {
+        int h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
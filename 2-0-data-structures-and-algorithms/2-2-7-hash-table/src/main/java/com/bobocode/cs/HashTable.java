@@ -2,6 +2,9 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+
 /**
  * {@link HashTable} is a simple Hashtable-based implementation of {@link Map} interface with some additional methods.
  * It is based on the array of {@link Node} objects. Both {@link HashTable} and {@link Node} have two type parameters:
@@ -14,10 +17,21 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * If two elements (keys) have the same array index, they form a linked list. That's why class {@link Node} requires
  * a reference to the next field.
  * <p>
+ * When many keys get the same index (e.g. their hash codes are poorly distributed or deliberately chosen by an
+ * attacker), a linked list makes get O(n). That's why once a bucket has more than {@link HashTable#TREEIFY_THRESHOLD}
+ * elements, it is converted into a balanced binary search tree ordered by {@link HashTable#compareKeys(Object, Object)}.
+ * It makes the search in such bucket O(log n). A tree bucket still keeps the next references, so it can be printed
+ * and traversed like a list.
+ * <p>
  * Since you don't always know the number of elements in advance, the table can be resized. You can do that manually by
- * calling method resizeTable, or it will be done automatically once the table reach resize threshold.
+ * calling method resizeTable, or it will be done automatically once the table reach resize threshold. A resize can be
+ * done at once, or incrementally, moving a few buckets on every operation.
  * <p>
  * The initial array size (initial capacity) is 8.
+ * <p>
+ * A table can also be created with a {@link HashSpreader} using constructor HashTable(int initialCapacity,
+ * HashSpreader spreader). In that case, all the operations calculate an index using
+ * {@link HashTable#calculateIndex(Object, int, HashSpreader)} with that spreader.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -27,6 +41,10 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Taras Boychuk
  */
 public class HashTable<K, V> implements Map<K, V> {
+    /**
+     * Max number of elements in a bucket that are stored as a linked list. A bigger bucket is converted into a tree.
+     */
+    public static final int TREEIFY_THRESHOLD = 8;
 
     /**
      * This method is a critical part of the hast table. The main idea is that having a key, you can calculate its index
@@ -46,6 +64,39 @@ public class HashTable<K, V> implements Map<K, V> {
         throw new ExerciseNotCompletedException(); // todo:
     }
 
+    /**
+     * Calculates an index of a given key using a given {@link HashSpreader}. Default calculateIndex uses a fixed way to
+     * spread hash code bits, and it may give long chains for some keys (e.g. sequential ids or strings that differ
+     * only in a few characters). A spreader allows to choose a better function for such keys.
+     * <p>
+     * The table uses this method when it is created with a spreader.
+     *
+     * @param key           a key
+     * @param tableCapacity underlying array size
+     * @param spreader      a function that turns a hash code into an index
+     * @return array index of the given key
+     */
+    public static int calculateIndex(Object key, int tableCapacity, HashSpreader spreader) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Compares two keys that are stored in the same tree bucket. If keys are {@link Comparable} and have the same
+     * class, it uses their natural order. Otherwise, it breaks a tie by comparing class names first, and then
+     * {@link System#identityHashCode(Object)} values.
+     * <p>
+     * Please note that keys with the same natural order or non-comparable keys with the same identity hash code cannot
+     * be distinguished, so the tree search should check both subtrees in that case.
+     *
+     * @param a first key
+     * @param b second key
+     * @return a negative integer, zero, or a positive integer as the first key is less than, equal to, or greater than
+     * the second
+     */
+    public static int compareKeys(Object a, Object b) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
     /**
      * Adds an element to the hash table. Does not support duplicate elements.
      *
@@ -122,6 +173,65 @@ public class HashTable<K, V> implements Map<K, V> {
         throw new ExerciseNotCompletedException(); // todo:
     }
 
+    /**
+     * Performs a given action for each entry. It iterates through the array and every linked list of nodes.
+     *
+     * @param action an action that accepts a key and a value
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a cursor that walks through the table. It keeps a current array index and a current node, so it does not
+     * need to create any objects while walking. Once a linked list of nodes is over, the cursor moves to the next
+     * non-empty array element.
+     *
+     * @return a new cursor
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a spliterator that splits the table by array index range. E.g. a spliterator of the range [0, 8) is split
+     * into [0, 4) and [4, 8), so two threads of a parallel stream can process different parts of the table.
+     *
+     * @return a new spliterator of entries
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Copies all the entries from a given map. Adding entries one by one can resize the table several times. That's
+     * why this method calculates a capacity that is enough for all the entries, calls resizeTable once (if needed),
+     * and only then adds the entries.
+     *
+     * @param other a map to copy entries from
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> other) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates or updates mappings for given keys and values. Like {@link HashTable#putAll(Map)}, it resizes the table
+     * not more than once, before adding the entries. Arrays should be checked with {@link Map#checkSameLength} before
+     * the resize, so the table does not grow for arrays that are rejected.
+     *
+     * @param keys   keys to put
+     * @param values values to put
+     * @throws IllegalArgumentException if arrays have different length
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
     /**
      * It's a special toString method dedicated to help you visualize a hash table. It creates a string that represents
      * an underlying array as a table. It has multiples rows. Every row starts with an array index followed by ": ".
@@ -148,6 +258,21 @@ public class HashTable<K, V> implements Map<K, V> {
         throw new ExerciseNotCompletedException(); // todo:
     }
 
+    /**
+     * Creates a snapshot of the table state: capacity, size, a chain length histogram, the longest chain, the number
+     * of resizes and the time spent in resizeTable. The retained heap can be estimated using
+     * {@link HashTableStats#estimateRetainedBytes(int, int)}.
+     * <p>
+     * This method is supposed to be called periodically (e.g. every few seconds) by a metrics thread, so it should not
+     * change the table and should walk through it only once. Resize count and time should be collected by resizeTable
+     * itself.
+     *
+     * @return a new stats snapshot
+     */
+    public HashTableStats stats() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
     /**
      * Creates a new underlying table with a given size and adds all elements to the new table.
      * <p>
@@ -159,9 +284,39 @@ public class HashTable<K, V> implements Map<K, V> {
      * for learning purposes. You can create a table, print it using toString, then resizeTable and print it again.
      * It will help you to understand how it works.
      *
+     * If the incremental resize is enabled (see {@link HashTable#enableIncrementalResize(int)}), this method only
+     * creates a new underlying array. Elements are moved to the new array later, by the subsequent operations.
+     *
      * @param newCapacity a size of the new underlying array
      */
     public void resizeTable(int newCapacity) {
         throw new ExerciseNotCompletedException(); // todo:
     }
+
+    /**
+     * Switches the table to the incremental resize mode.
+     * <p>
+     * A regular resize moves all the elements at once. For a huge table it takes a lot of time, and the put that
+     * triggered the resize becomes very slow. In the incremental mode, the old and the new arrays coexist. Every
+     * subsequent put, get and remove moves not more than a given number of buckets from the old array to the new one.
+     * When all buckets are moved, the old array is released.
+     * <p>
+     * While the migration is in progress, a key can be stored in any of two arrays, so get, containsKey and remove
+     * should check both of them. New elements are always added to the new array.
+     *
+     * @param bucketsPerOperation max number of old buckets that is moved by one operation
+     * @throws IllegalArgumentException if bucketsPerOperation is not positive
+     */
+    public void enableIncrementalResize(int bucketsPerOperation) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the incremental resize is in progress, which means that some elements are still stored in the old array.
+     *
+     * @return true if the old array still has elements that are not moved to the new one
+     */
+    public boolean isResizing() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
 }
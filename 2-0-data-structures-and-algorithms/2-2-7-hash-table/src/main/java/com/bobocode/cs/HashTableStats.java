@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link HashTableStats} is a snapshot of the hash table state. It helps to see how healthy a table is: how full it
+ * is, how long the linked lists of nodes (chains) are, and how much time was spent on resizing.
+ * <p>
+ * A chain length histogram is an array where an index is a chain length and a value is the number of buckets that
+ * have a chain of that length. E.g. {@code [5, 2, 1]} means that there are 5 empty buckets, 2 buckets with one node,
+ * and 1 bucket with two nodes. In a healthy table most buckets have 0 or 1 node.
+ * <p>
+ * A retained heap is an estimation of the memory that is occupied by the table itself (an array and nodes), keys and
+ * values are not included.
+ *
+ * @param capacity               underlying array size
+ * @param size                   number of entries
+ * @param chainLengthHistogram   number of buckets per chain length
+ * @param maxChainLength         the longest chain
+ * @param resizeCount            number of resizes since the table was created
+ * @param resizeNanos            total time spent on resizing, in nanoseconds
+ * @param estimatedRetainedBytes estimated size of the array and nodes, in bytes
+ */
+public record HashTableStats(int capacity,
+                             int size,
+                             int[] chainLengthHistogram,
+                             int maxChainLength,
+                             int resizeCount,
+                             long resizeNanos,
+                             long estimatedRetainedBytes) {
+    /**
+     * An estimated size of an array header in a 64-bit JVM with compressed references.
+     */
+    public static final int ARRAY_HEADER_BYTES = 16;
+    /**
+     * An estimated size of a reference in a 64-bit JVM with compressed references.
+     */
+    public static final int REFERENCE_BYTES = 4;
+    /**
+     * An estimated size of a node that stores a hash, a key, a value and a next reference.
+     */
+    public static final int NODE_BYTES = 32;
+
+    /**
+     * Copies the histogram, so the record does not share an array with the table or a caller.
+     */
+    public HashTableStats {
+        chainLengthHistogram = chainLengthHistogram.clone();
+    }
+
+    /**
+     * Returns a copy of the histogram, so a caller cannot change the snapshot.
+     *
+     * @return number of buckets per chain length
+     */
+    @Override
+    public int[] chainLengthHistogram() {
+        return chainLengthHistogram.clone();
+    }
+
+    /**
+     * Returns the ratio of entries to buckets.
+     *
+     * @return size divided by capacity
+     */
+    public double loadFactor() {
+        return capacity == 0 ? 0 : (double) size / capacity;
+    }
+
+    /**
+     * Returns the number of buckets that have a chain of a given length.
+     *
+     * @param chainLength a chain length
+     * @return number of buckets
+     */
+    public int bucketsWithChainLength(int chainLength) {
+        return chainLength < chainLengthHistogram.length ? chainLengthHistogram[chainLength] : 0;
+    }
+
+    /**
+     * Estimates the heap that is occupied by an array of references and the nodes.
+     *
+     * @param capacity underlying array size
+     * @param size     number of nodes
+     * @return estimated bytes
+     */
+    public static long estimateRetainedBytes(int capacity, int size) {
+        return ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * capacity + (long) NODE_BYTES * size;
+    }
+
+    /**
+     * Compares the histograms by their content, while the default record equality compares array references.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HashTableStats that)) {
+            return false;
+        }
+        return capacity == that.capacity
+                && size == that.size
+                && Arrays.equals(chainLengthHistogram, that.chainLengthHistogram)
+                && maxChainLength == that.maxChainLength
+                && resizeCount == that.resizeCount
+                && resizeNanos == that.resizeNanos
+                && estimatedRetainedBytes == that.estimatedRetainedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(capacity, size, maxChainLength, resizeCount, resizeNanos, estimatedRetainedBytes);
+        return 31 * result + Arrays.hashCode(chainLengthHistogram);
+    }
+
+    @Override
+    public String toString() {
+        return "HashTableStats[capacity=" + capacity
+                + ", size=" + size
+                + ", chainLengthHistogram=" + Arrays.toString(chainLengthHistogram)
+                + ", maxChainLength=" + maxChainLength
+                + ", resizeCount=" + resizeCount
+                + ", resizeNanos=" + resizeNanos
+                + ", estimatedRetainedBytes=" + estimatedRetainedBytes + "]";
+    }
+}
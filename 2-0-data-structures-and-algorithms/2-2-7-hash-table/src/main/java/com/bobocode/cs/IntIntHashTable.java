@@ -0,0 +1,266 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntIntHashTable} is a hash table that maps primitive int keys to primitive int values. It provides the same
+ * operations as {@link Map}, but it does not box keys and values, and does not create a node per entry. Keys and values
+ * are stored in two parallel int arrays.
+ * <p>
+ * Since there is no null for a primitive, an empty slot is marked with a special <em>no key</em> value. That value
+ * cannot be used as a key. In the same way, {@link IntIntHashTable#get(int)} returns a <em>no value</em> value when
+ * there is no such key. Both sentinels can be configured via constructor, by default they are
+ * {@link Integer#MIN_VALUE} and 0.
+ * <p>
+ * Collisions are resolved using linear probing. The capacity is always a power of two, and removal shifts back
+ * the following entries of the probe sequence, so the table never contains tombstones.
+ */
+public class IntIntHashTable {
+    public static final int DEFAULT_NO_KEY = Integer.MIN_VALUE;
+    public static final int DEFAULT_NO_VALUE = 0;
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private final int noKey;
+    private final int noValue;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    public IntIntHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_NO_KEY, DEFAULT_NO_VALUE);
+    }
+
+    public IntIntHashTable(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, DEFAULT_NO_KEY, DEFAULT_NO_VALUE);
+    }
+
+    /**
+     * Creates a table with given parameters.
+     *
+     * @param initialCapacity expected number of slots, it is rounded up to the closest power of two
+     * @param loadFactor      a max ratio of entries to slots, it must be in the range (0, 1)
+     * @param noKey           a key value that marks an empty slot, and cannot be stored
+     * @param noValue         a value that is returned when there is no such key
+     * @throws IllegalArgumentException if capacity is not positive or load factor is out of range
+     */
+    public IntIntHashTable(int initialCapacity, float loadFactor, int noKey, int noValue) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in the range (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.noKey = noKey;
+        this.noValue = noValue;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Creates or updates a mapping for a given key and value.
+     *
+     * @param key   a key, it cannot be equal to the no key value
+     * @param value a value
+     * @return an old value or the no value if the key is new
+     * @throws IllegalArgumentException if the key is equal to the no key value
+     */
+    public int put(int key, int value) {
+        checkKey(key);
+        int index = findIndex(key);
+        if (index >= 0) {
+            int oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size >= threshold) {
+            resizeTable(keys.length << 1);
+        }
+        insertNew(key, value);
+        size++;
+        return noValue;
+    }
+
+    /**
+     * Returns the value that is mapped to the given key.
+     *
+     * @param key a key
+     * @return the value that is mapped to the given key, or the no value if there is no such key
+     */
+    public int get(int key) {
+        return getOrDefault(key, noValue);
+    }
+
+    /**
+     * Returns the value that is mapped to the given key, or a given default value if there is no such key.
+     *
+     * @param key          a key
+     * @param defaultValue a value to return if there is no such key
+     * @return the value that is mapped to the given key, or default value
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int index = findIndex(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return findIndex(key) >= 0;
+    }
+
+    public boolean containsValue(int value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != noKey && values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a number of slots, that is a length of each of the two underlying arrays
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Removes a mapping for a given key.
+     *
+     * @param key a key
+     * @return a removed value or the no value if there is no such key
+     */
+    public int remove(int key) {
+        int index = findIndex(key);
+        if (index < 0) {
+            return noValue;
+        }
+        int removedValue = values[index];
+        shiftBackFrom(index);
+        size--;
+        return removedValue;
+    }
+
+    public int noKey() {
+        return noKey;
+    }
+
+    public int noValue() {
+        return noValue;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            result.append(i).append(":");
+            if (keys[i] != noKey) {
+                result.append(" ").append(keys[i]).append("=").append(values[i]);
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates new underlying arrays of a given size and reinserts all entries.
+     *
+     * @param newCapacity a new number of slots, it is rounded up to the closest power of two
+     * @throws IllegalArgumentException if new capacity cannot hold current entries
+     */
+    public void resizeTable(int newCapacity) {
+        int capacity = tableSizeFor(newCapacity);
+        if (size > (int) (capacity * loadFactor)) {
+            throw new IllegalArgumentException("Capacity " + newCapacity + " is too small for " + size + " entries");
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != noKey) {
+                insertNew(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        if (noKey != 0) {
+            Arrays.fill(keys, noKey);
+        }
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private void checkKey(int key) {
+        if (key == noKey) {
+            throw new IllegalArgumentException("Key " + key + " is reserved to mark empty slots");
+        }
+    }
+
+    private int findIndex(int key) {
+        if (key == noKey) {
+            return -1;
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != noKey) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertNew(int key, int value) {
+        int index = hash(key) & mask;
+        while (keys[index] != noKey) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Fills a removed slot with the next entry of the probe sequence that can be moved there, and repeats it for the
+     * freed slot. An entry can be moved only if its home index is not between the freed slot and its current slot.
+     */
+    private void shiftBackFrom(int gap) {
+        int index = (gap + 1) & mask;
+        while (keys[index] != noKey) {
+            int home = hash(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = noKey;
+        values[gap] = 0;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+}
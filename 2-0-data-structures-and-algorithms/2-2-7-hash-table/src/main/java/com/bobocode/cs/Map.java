@@ -1,5 +1,10 @@
 package com.bobocode.cs;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 /**
  * A {@link Map} is a simplified interface of so-called dictionary. It maps keys to values and provides an API for data
  * access and manipulation. Please note that a map does not support duplicate keys.
@@ -11,6 +16,52 @@ package com.bobocode.cs;
  * @author Taras Boychuk
  */
 public interface Map<K, V> {
+    /**
+     * A key-value pair that is used to represent map entries in streams.
+     *
+     * @param key   a key
+     * @param value a value
+     */
+    record Entry<K, V>(K key, V value) {
+    }
+
+    /**
+     * A {@link Cursor} walks through the map entries without creating an object per entry. It points to no entry
+     * until {@link Cursor#advance()} is called for the first time.
+     * <pre>
+     * var cursor = map.cursor();
+     * while (cursor.advance()) {
+     *     System.out.println(cursor.key() + "=" + cursor.value());
+     * }
+     * </pre>
+     * A cursor is not valid anymore once the map is changed.
+     */
+    interface Cursor<K, V> {
+        /**
+         * Moves the cursor to the next entry.
+         *
+         * @return true if there is the next entry, or false if all entries were visited
+         */
+        boolean advance();
+
+        /**
+         * @return a key of the current entry
+         * @throws IllegalStateException if the cursor does not point to an entry
+         */
+        K key();
+
+        /**
+         * @return a value of the current entry
+         * @throws IllegalStateException if the cursor does not point to an entry
+         */
+        V value();
+
+        /**
+         * Moves the cursor back to the position before the first entry, so it can be used for one more walk.
+         */
+        void reset();
+    }
+
     /**
      * Creates or updates a mapping for a given key and value. If the key is new, it creates a mapping and return null.
      * If the key exists, it updates the value and returns the old value.
@@ -66,4 +117,93 @@ public interface Map<K, V> {
      * @return a removed value or null
      */
     V remove(K key);
+
+    /**
+     * Performs a given action for each entry (key-value mapping).
+     *
+     * @param action an action that accepts a key and a value
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /**
+     * Creates a cursor that walks through all the entries.
+     *
+     * @return a new cursor
+     */
+    Cursor<K, V> cursor();
+
+    /**
+     * Creates a {@link Spliterator} of map entries, so the map can be processed using a (parallel) stream:
+     * {@code StreamSupport.stream(map.spliterator(), true)}. A default spliterator is based on the cursor, and splits
+     * by copying batches of entries to arrays. An implementation that is based on an array should split by index range.
+     *
+     * @return a new spliterator of entries
+     */
+    default Spliterator<Entry<K, V>> spliterator() {
+        var cursor = cursor();
+        return new Spliterators.AbstractSpliterator<>(size(), Spliterator.DISTINCT | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+                if (!cursor.advance()) {
+                    return false;
+                }
+                action.accept(new Entry<>(cursor.key(), cursor.value()));
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Copies all the entries from a given map. An implementation should resize its storage not more than once, before
+     * adding the entries.
+     *
+     * @param other a map to copy entries from
+     */
+    default void putAll(Map<? extends K, ? extends V> other) {
+        other.forEach(this::put);
+    }
+
+    /**
+     * Creates or updates mappings for given keys and values. A key and its value have the same array index.
+     * An implementation should resize its storage not more than once, before adding the entries.
+     *
+     * @param keys   keys to put
+     * @param values values to put
+     * @throws IllegalArgumentException if arrays have different length
+     */
+    default void putAll(K[] keys, V[] values) {
+        checkSameLength(keys, values);
+        for (int i = 0; i < keys.length; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Finds the values of given keys and writes them to the result array, using the same index as the key.
+     * If there is no such key, it writes null.
+     *
+     * @param keys   keys to find
+     * @param result an array to write values to
+     * @throws IllegalArgumentException if arrays have different length
+     */
+    default void getAll(K[] keys, V[] result) {
+        checkSameLength(keys, result);
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = get(keys[i]);
+        }
+    }
+
+    /**
+     * Checks that a bulk operation gets a value for every key. An implementation that prepares its storage before
+     * calling a default bulk method should call it first, so it does not resize for arrays that are rejected.
+     *
+     * @param keys   keys of a bulk operation
+     * @param values values of a bulk operation
+     * @throws IllegalArgumentException if arrays have different length
+     */
+    static void checkSameLength(Object[] keys, Object[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Arrays have different length: " + keys.length + " and " + values.length);
+        }
+    }
 }
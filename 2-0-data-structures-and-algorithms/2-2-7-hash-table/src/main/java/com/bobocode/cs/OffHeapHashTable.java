@@ -0,0 +1,698 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link OffHeapHashTable} is an implementation of {@link Map} interface that keeps its data outside the Java heap, so
+ * a huge table does not make garbage collection pauses longer. Keys and values are serialized using a {@link Codec}
+ * and stored in direct {@link ByteBuffer}s.
+ * <p>
+ * The table consists of two parts:
+ * <ul>
+ *     <li>an <em>index</em>, that is a direct buffer of fixed-width slots. Every slot stores a hash code of a key and
+ *     an address of its record. Collisions are resolved using linear probing with backward-shift deletion.</li>
+ *     <li>an <em>arena</em>, that is a list of direct buffers (chunks). Records are appended to the last chunk. Every
+ *     record is length-prefixed: key length, value length, key bytes, value bytes.</li>
+ * </ul>
+ * Keys are compared by their serialized bytes, so a key codec must produce the same bytes for equal keys.
+ * <p>
+ * When a value is replaced by a value of a different size, or an entry is removed, its old record becomes garbage.
+ * Method {@link OffHeapHashTable#compact()} copies live records to new chunks and releases the old ones.
+ * <p>
+ * The index has at most {@code 2^27} slots, because it is a single buffer addressed by {@code int}. When it is full,
+ * {@link OffHeapHashTable#put(Object, Object)} of a new key throws {@link IllegalStateException}.
+ * <p>
+ * The memory is released explicitly by {@link OffHeapHashTable#close()}. A closed table cannot be used anymore.
+ * Null keys and values are not supported. This class is not thread-safe.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class OffHeapHashTable<K, V> implements Map<K, V>, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 27;
+    private static final int SLOT_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final long EMPTY = -1;
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+    /**
+     * An estimated size of this object in a 64-bit JVM with compressed references: a 12-byte header, five references,
+     * four ints, a long and a boolean, aligned to 8 bytes.
+     */
+    private static final int TABLE_OBJECT_BYTES = 64;
+    /**
+     * An estimated size of an {@link ArrayList} object: a header, two ints and a reference to its array.
+     */
+    private static final int ARRAY_LIST_OBJECT_BYTES = 24;
+    /**
+     * An estimated size of a {@link ByteBuffer} object: a header, four ints and an address of {@link java.nio.Buffer},
+     * and the references and flags of its subclasses.
+     */
+    private static final int BUFFER_OBJECT_BYTES = 64;
+    /**
+     * An estimated size of a cleaner and a deallocator that a direct buffer creates to free its memory.
+     */
+    private static final int DIRECT_BUFFER_CLEANER_BYTES = 72;
+
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final int chunkSize;
+    private final int maximumCapacity;
+    private ArrayList<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer index;
+    private ByteBuffer scratch = ByteBuffer.allocate(64);
+    private int capacity;
+    private int size;
+    private long garbageBytes;
+    private boolean closed;
+
+    /**
+     * {@link Codec} converts objects to bytes and back.
+     *
+     * @param <T> type of objects
+     */
+    public interface Codec<T> {
+        Codec<String> STRING = new Codec<>() {
+            @Override
+            public int size(String value) {
+                return value.length() * 3;
+            }
+
+            @Override
+            public int write(String value, ByteBuffer buffer) {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                buffer.put(bytes);
+                return bytes.length;
+            }
+
+            @Override
+            public String read(ByteBuffer buffer, int length) {
+                var bytes = new byte[length];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        Codec<Integer> INTEGER = new Codec<>() {
+            @Override
+            public int size(Integer value) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public int write(Integer value, ByteBuffer buffer) {
+                buffer.putInt(value);
+                return Integer.BYTES;
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int length) {
+                return buffer.getInt();
+            }
+        };
+
+        Codec<Long> LONG = new Codec<>() {
+            @Override
+            public int size(Long value) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public int write(Long value, ByteBuffer buffer) {
+                buffer.putLong(value);
+                return Long.BYTES;
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int length) {
+                return buffer.getLong();
+            }
+        };
+
+        /**
+         * @return max number of bytes that is needed to write a given value
+         */
+        int size(T value);
+
+        /**
+         * Writes a value to the buffer starting from its current position.
+         *
+         * @return actual number of written bytes
+         */
+        int write(T value, ByteBuffer buffer);
+
+        /**
+         * Reads a value of a given length starting from the current position of the buffer.
+         */
+        T read(ByteBuffer buffer, int length);
+    }
+
+    public OffHeapHashTable(Codec<K> keyCodec, Codec<V> valueCodec) {
+        this(keyCodec, valueCodec, DEFAULT_CAPACITY, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a table with given codecs and sizes.
+     *
+     * @param keyCodec        a codec for keys
+     * @param valueCodec      a codec for values
+     * @param initialCapacity an initial number of index slots, it is rounded up to the closest power of two
+     * @param chunkSize       a size of one arena chunk in bytes
+     * @throws IllegalArgumentException if capacity or chunk size is not positive
+     */
+    public OffHeapHashTable(Codec<K> keyCodec, Codec<V> valueCodec, int initialCapacity, int chunkSize) {
+        this(keyCodec, valueCodec, initialCapacity, chunkSize, MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a lower limit of index slots, so the behaviour of a full table can be checked without
+     * allocating the maximum index.
+     */
+    OffHeapHashTable(Codec<K> keyCodec, Codec<V> valueCodec, int initialCapacity, int chunkSize,
+                     int maximumCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.keyCodec = Objects.requireNonNull(keyCodec);
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.chunkSize = chunkSize;
+        this.maximumCapacity = maximumCapacity;
+        this.index = allocateIndex(tableSizeFor(initialCapacity));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        int keyLength = serializeKey(key);
+        int hash = hash(scratch, keyLength);
+        int slot = findSlot(hash, keyLength);
+        if (slot >= 0) {
+            return replaceValue(slot, keyLength, value);
+        }
+        if (size >= (int) (capacity * LOAD_FACTOR)) {
+            if (capacity == maximumCapacity) {
+                throw new IllegalStateException("The table is full: " + size + " entries in " + capacity + " slots");
+            }
+            resizeTable(capacity << 1);
+        }
+        insertSlot(hash, appendRecord(keyLength, value));
+        size++;
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int keyLength = serializeKey(key);
+        int slot = findSlot(hash(scratch, keyLength), keyLength);
+        return slot >= 0 ? readValue(addressAt(slot)) : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int keyLength = serializeKey(key);
+        return findSlot(hash(scratch, keyLength), keyLength) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        checkNotClosed();
+        if (value == null) {
+            return false;
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = addressAt(slot);
+            if (address != EMPTY && value.equals(readValue(address))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        int keyLength = serializeKey(key);
+        int slot = findSlot(hash(scratch, keyLength), keyLength);
+        if (slot < 0) {
+            return null;
+        }
+        long address = addressAt(slot);
+        V removedValue = readValue(address);
+        garbageBytes += recordSize(address);
+        shiftBackFrom(slot);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Performs a given action for each entry. Keys and values are deserialized, so new objects are created for every
+     * entry.
+     *
+     * @param action an action that accepts a key and a value
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        checkNotClosed();
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = addressAt(slot);
+            if (address != EMPTY) {
+                action.accept(readKey(address), readValue(address));
+            }
+        }
+    }
+
+    /**
+     * Creates a cursor that walks through the index slots. A key and a value are deserialized only when they are
+     * requested.
+     *
+     * @return a new cursor
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        checkNotClosed();
+        return new SlotCursor();
+    }
+
+    /**
+     * {@inheritDoc} Only the index is sized in advance, the records are appended to the arena one by one.
+     *
+     * @param other a map to copy entries from
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> other) {
+        ensureCapacity(size + other.size());
+        other.forEach(this::put);
+    }
+
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        Map.checkSameLength(keys, values);
+        ensureCapacity(size + keys.length);
+        Map.super.putAll(keys, values);
+    }
+
+    /**
+     * Creates a string that represents the index. Every row starts with a slot index followed by ": " and a key=value
+     * pair if the slot is occupied.
+     *
+     * @return a string representation of the table
+     */
+    @Override
+    public String toString() {
+        checkNotClosed();
+        StringBuilder result = new StringBuilder();
+        for (int slot = 0; slot < capacity; slot++) {
+            result.append(slot).append(":");
+            long address = addressAt(slot);
+            if (address != EMPTY) {
+                result.append(" ").append(readKey(address)).append("=").append(readValue(address));
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates a new index of a given size and puts there all the slots. Records in the arena are not moved. If the
+     * index already has the requested size, nothing is done.
+     *
+     * @param newCapacity a new number of index slots, it is rounded up to the closest power of two and limited by the
+     *                    maximum capacity
+     * @throws IllegalArgumentException if new capacity cannot hold current entries
+     */
+    public void resizeTable(int newCapacity) {
+        checkNotClosed();
+        int newTableSize = tableSizeFor(newCapacity);
+        if (size > (int) (newTableSize * LOAD_FACTOR)) {
+            throw new IllegalArgumentException("Capacity " + newCapacity + " is too small for " + size + " entries");
+        }
+        if (newTableSize == capacity) {
+            return;
+        }
+        var oldIndex = index;
+        int oldCapacity = capacity;
+        index = allocateIndex(newTableSize);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long address = oldIndex.getLong(slot * SLOT_SIZE + Integer.BYTES);
+            if (address != EMPTY) {
+                insertSlot(oldIndex.getInt(slot * SLOT_SIZE), address);
+            }
+        }
+        free(oldIndex);
+    }
+
+    /**
+     * Copies all live records to new chunks and releases the old ones, so the garbage left by updates and removals
+     * is returned.
+     */
+    public void compact() {
+        checkNotClosed();
+        var oldChunks = chunks;
+        chunks = new ArrayList<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = addressAt(slot);
+            if (address != EMPTY) {
+                var source = recordBuffer(oldChunks, address);
+                int length = RECORD_HEADER_SIZE + source.getInt(source.position())
+                        + source.getInt(source.position() + Integer.BYTES);
+                long newAddress = reserve(length);
+                var target = recordBuffer(chunks, newAddress);
+                target.put(source.limit(source.position() + length));
+                index.putLong(slot * SLOT_SIZE + Integer.BYTES, newAddress);
+            }
+        }
+        oldChunks.forEach(OffHeapHashTable::free);
+        garbageBytes = 0;
+    }
+
+    /**
+     * Returns an estimated number of bytes that this table occupies in the Java heap. It sums up the estimated sizes
+     * of the objects, and does not depend on the number of entries:
+     * <ul>
+     *     <li>the table object</li>
+     *     <li>the list of chunks and its array of references</li>
+     *     <li>the scratch buffer that is used to serialize keys, and its byte array</li>
+     *     <li>a direct {@link ByteBuffer} object and its cleaner per chunk and for the index, while their memory is
+     *     counted by {@link OffHeapHashTable#offHeapBytes()}</li>
+     * </ul>
+     *
+     * @return on-heap bytes
+     */
+    public long onHeapBytes() {
+        int directBuffers = chunks.size() + (index == null ? 0 : 1);
+        return TABLE_OBJECT_BYTES
+                + ARRAY_LIST_OBJECT_BYTES + HashTableStats.ARRAY_HEADER_BYTES
+                + (long) HashTableStats.REFERENCE_BYTES * chunks.size()
+                + BUFFER_OBJECT_BYTES + HashTableStats.ARRAY_HEADER_BYTES + scratch.capacity()
+                + (long) (BUFFER_OBJECT_BYTES + DIRECT_BUFFER_CLEANER_BYTES) * directBuffers;
+    }
+
+    /**
+     * Returns the number of bytes that are allocated outside the Java heap, including the index, live records and
+     * garbage.
+     *
+     * @return off-heap bytes
+     */
+    public long offHeapBytes() {
+        if (closed) {
+            return 0;
+        }
+        long bytes = index.capacity();
+        for (var chunk : chunks) {
+            bytes += chunk.capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the number of arena bytes that are occupied by removed or replaced records.
+     *
+     * @return garbage bytes
+     */
+    public long garbageBytes() {
+        return garbageBytes;
+    }
+
+    /**
+     * Releases all off-heap memory. Any other operation on a closed table throws {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            free(index);
+            chunks.forEach(OffHeapHashTable::free);
+            chunks.clear();
+            index = null;
+            size = 0;
+        }
+    }
+
+    private class SlotCursor implements Cursor<K, V> {
+        private int slot = -1;
+
+        @Override
+        public boolean advance() {
+            checkNotClosed();
+            while (slot < capacity) {
+                slot++;
+                if (slot < capacity && addressAt(slot) != EMPTY) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public K key() {
+            return readKey(currentAddress());
+        }
+
+        @Override
+        public V value() {
+            return readValue(currentAddress());
+        }
+
+        @Override
+        public void reset() {
+            slot = -1;
+        }
+
+        private long currentAddress() {
+            checkNotClosed();
+            if (slot < 0 || slot >= capacity || addressAt(slot) == EMPTY) {
+                throw new IllegalStateException("Cursor does not point to an entry");
+            }
+            return addressAt(slot);
+        }
+    }
+
+    private void ensureCapacity(int expectedSize) {
+        if (expectedSize > (int) (capacity * LOAD_FACTOR)) {
+            resizeTable((int) Math.min(Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1, maximumCapacity));
+        }
+    }
+
+    private int serializeKey(K key) {
+        checkNotClosed();
+        Objects.requireNonNull(key);
+        ensureScratchCapacity(keyCodec.size(key));
+        scratch.clear();
+        return keyCodec.write(key, scratch);
+    }
+
+    private V replaceValue(int slot, int keyLength, V value) {
+        long address = addressAt(slot);
+        V oldValue = readValue(address);
+        var record = recordBuffer(chunks, address);
+        int oldValueLength = record.getInt(record.position() + Integer.BYTES);
+        ensureScratchCapacity(keyLength + valueCodec.size(value));
+        scratch.position(keyLength);
+        int valueLength = valueCodec.write(value, scratch);
+        if (valueLength == oldValueLength) {
+            record.position(record.position() + RECORD_HEADER_SIZE + keyLength);
+            record.put(scratch.flip().position(keyLength));
+        } else {
+            garbageBytes += RECORD_HEADER_SIZE + keyLength + oldValueLength;
+            index.putLong(slot * SLOT_SIZE + Integer.BYTES, writeRecord(keyLength, valueLength));
+        }
+        return oldValue;
+    }
+
+    /**
+     * Appends a new record. The serialized key is expected to be at the beginning of the scratch buffer.
+     */
+    private long appendRecord(int keyLength, V value) {
+        ensureScratchCapacity(keyLength + valueCodec.size(value));
+        scratch.position(keyLength);
+        int valueLength = valueCodec.write(value, scratch);
+        return writeRecord(keyLength, valueLength);
+    }
+
+    private long writeRecord(int keyLength, int valueLength) {
+        long address = reserve(RECORD_HEADER_SIZE + keyLength + valueLength);
+        var record = recordBuffer(chunks, address);
+        record.putInt(keyLength).putInt(valueLength).put(scratch.flip());
+        return address;
+    }
+
+    /**
+     * Reserves a given number of bytes in the last chunk, or in a new one if there is no space left.
+     *
+     * @return an address, where higher 32 bits are a chunk number and lower 32 bits are a position in the chunk
+     */
+    private long reserve(int length) {
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || chunk.remaining() < length) {
+            chunk = ByteBuffer.allocateDirect(Math.max(chunkSize, length));
+            chunks.add(chunk);
+        }
+        int position = chunk.position();
+        chunk.position(position + length);
+        return ((long) (chunks.size() - 1) << 32) | position;
+    }
+
+    private ByteBuffer recordBuffer(ArrayList<ByteBuffer> arena, long address) {
+        var chunk = arena.get((int) (address >>> 32));
+        int position = (int) address;
+        return chunk.duplicate().limit(chunk.capacity()).position(position);
+    }
+
+    private int recordSize(long address) {
+        var record = recordBuffer(chunks, address);
+        return RECORD_HEADER_SIZE + record.getInt(record.position()) + record.getInt(record.position() + 4);
+    }
+
+    private K readKey(long address) {
+        var record = recordBuffer(chunks, address);
+        int keyLength = record.getInt();
+        record.getInt();
+        return keyCodec.read(record, keyLength);
+    }
+
+    private V readValue(long address) {
+        var record = recordBuffer(chunks, address);
+        int keyLength = record.getInt();
+        int valueLength = record.getInt();
+        record.position(record.position() + keyLength);
+        return valueCodec.read(record, valueLength);
+    }
+
+    private int findSlot(int hash, int keyLength) {
+        int mask = capacity - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long address = addressAt(slot);
+            if (address == EMPTY) {
+                return -1;
+            }
+            if (index.getInt(slot * SLOT_SIZE) == hash && keyEquals(address, keyLength)) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean keyEquals(long address, int keyLength) {
+        var record = recordBuffer(chunks, address);
+        if (record.getInt() != keyLength) {
+            return false;
+        }
+        record.getInt();
+        return record.limit(record.position() + keyLength).equals(scratch.duplicate().position(0).limit(keyLength));
+    }
+
+    private void insertSlot(int hash, long address) {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        while (addressAt(slot) != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        index.putInt(slot * SLOT_SIZE, hash);
+        index.putLong(slot * SLOT_SIZE + Integer.BYTES, address);
+    }
+
+    private void shiftBackFrom(int gap) {
+        int mask = capacity - 1;
+        int slot = (gap + 1) & mask;
+        while (addressAt(slot) != EMPTY) {
+            int hash = index.getInt(slot * SLOT_SIZE);
+            if (((slot - (hash & mask)) & mask) >= ((slot - gap) & mask)) {
+                index.putInt(gap * SLOT_SIZE, hash);
+                index.putLong(gap * SLOT_SIZE + Integer.BYTES, addressAt(slot));
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        index.putLong(gap * SLOT_SIZE + Integer.BYTES, EMPTY);
+    }
+
+    private long addressAt(int slot) {
+        return index.getLong(slot * SLOT_SIZE + Integer.BYTES);
+    }
+
+    private ByteBuffer allocateIndex(int newCapacity) {
+        var newIndex = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+        for (int slot = 0; slot < newCapacity; slot++) {
+            newIndex.putLong(slot * SLOT_SIZE + Integer.BYTES, EMPTY);
+        }
+        capacity = newCapacity;
+        return newIndex;
+    }
+
+    private void ensureScratchCapacity(int length) {
+        if (scratch.capacity() < length) {
+            var newScratch = ByteBuffer.allocate(Math.max(length, scratch.capacity() * 2));
+            newScratch.put(scratch.flip());
+            scratch = newScratch;
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The table is closed");
+        }
+    }
+
+    private int tableSizeFor(int capacity) {
+        if (capacity >= maximumCapacity) {
+            return maximumCapacity;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private static int hash(ByteBuffer buffer, int length) {
+        int h = 1;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + buffer.get(i);
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Releases memory of a direct buffer right away, instead of waiting until the buffer is garbage collected. It uses
+     * {@code sun.misc.Unsafe#invokeCleaner} if it is available.
+     */
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot release off-heap memory", e);
+            }
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(unsafeField.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * {@link RobinHoodHashTable} is an open-addressing implementation of {@link Map} interface. Unlike {@link HashTable},
+ * it does not create a node per entry. Keys, values and cached hash codes are stored in three parallel arrays, so
+ * {@link RobinHoodHashTable#get(Object)} and {@link RobinHoodHashTable#put(Object, Object)} do not allocate anything
+ * unless the table needs to grow.
+ * <p>
+ * Collisions are resolved using linear probing with <em>Robin Hood</em> rule. Each entry has a probe distance, which is
+ * a number of slots between its home index and its actual index. When a new entry is inserted and meets an entry
+ * that is closer to its home ("richer"), they are swapped, and the insertion continues with the displaced entry. It
+ * keeps probe distances short and allows to stop a lookup as soon as it meets an entry that is richer than the key
+ * being searched.
+ * <p>
+ * Removal uses <em>backward-shift deletion</em>: all following entries of the same probe sequence are moved one slot
+ * back, so the table never contains tombstones.
+ * <p>
+ * The capacity is always a power of two, so an index is calculated using a bit mask instead of a division. When the
+ * table has {@code 2^30} slots, it does not grow anymore, and {@link RobinHoodHashTable#put(Object, Object)} of a new
+ * key throws {@link IllegalStateException} once the load factor is reached. Null keys are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class RobinHoodHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    public RobinHoodHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashTable(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a table that can store a given number of entries without resizing.
+     *
+     * @param initialCapacity expected number of slots, it is rounded up to the closest power of two
+     * @param loadFactor      a max ratio of entries to slots, it must be in the range (0, 1)
+     * @throws IllegalArgumentException if capacity is not positive or load factor is out of range
+     */
+    public RobinHoodHashTable(int initialCapacity, float loadFactor) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in the range (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Spreads higher bits of the hash code to the lower ones, because only the lower bits are used to calculate an
+     * index in the power-of-two table.
+     *
+     * @param key a key
+     * @return a spread hash code
+     */
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        int hash = hash(key);
+        int index = findIndex(key, hash);
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size >= threshold) {
+            if (keys.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("The table is full: " + size + " entries in " + keys.length + " slots");
+            }
+            ensureCapacity(size + 1);
+        }
+        insertNew(key, value, hash);
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = findIndex(Objects.requireNonNull(key), hash(key));
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findIndex(Objects.requireNonNull(key), hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int index = findIndex(Objects.requireNonNull(key), hash(key));
+        if (index < 0) {
+            return null;
+        }
+        V removedValue = (V) values[index];
+        shiftBackFrom(index);
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Creates a cursor that walks through the underlying arrays. It does not create any objects while walking.
+     *
+     * @return a new cursor
+     */
+    @Override
+    public Cursor<K, V> cursor() {
+        return new SlotCursor();
+    }
+
+    /**
+     * Creates a spliterator that splits the underlying arrays by index range, so every part of a parallel stream
+     * walks through its own range of slots.
+     *
+     * @return a new spliterator of entries
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new SlotSpliterator(0, keys.length);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> other) {
+        ensureCapacity(size + other.size());
+        other.forEach(this::put);
+    }
+
+    @Override
+    public void putAll(K[] newKeys, V[] newValues) {
+        Map.checkSameLength(newKeys, newValues);
+        ensureCapacity(size + newKeys.length);
+        Map.super.putAll(newKeys, newValues);
+    }
+
+    /**
+     * Creates a string that represents an underlying array. Every row starts with a slot index followed by ": " and
+     * a key=value pair if the slot is occupied.
+     *
+     * @return a string representation of the table
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            result.append(i).append(":");
+            if (keys[i] != null) {
+                result.append(" ").append(keys[i]).append("=").append(values[i]);
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates new underlying arrays of a given size and reinserts all entries. Like {@link HashTable#resizeTable(int)},
+     * it is public for learning purposes only.
+     *
+     * @param newCapacity a new number of slots, it is rounded up to the closest power of two
+     * @throws IllegalArgumentException if new capacity cannot hold current entries
+     */
+    public void resizeTable(int newCapacity) {
+        int capacity = tableSizeFor(newCapacity);
+        if (size > (int) (capacity * loadFactor)) {
+            throw new IllegalArgumentException("Capacity " + newCapacity + " is too small for " + size + " entries");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insertNew(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    private class SlotCursor implements Cursor<K, V> {
+        private int index = -1;
+
+        @Override
+        public boolean advance() {
+            while (index < keys.length) {
+                index++;
+                if (index < keys.length && keys[index] != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K key() {
+            checkPosition();
+            return (K) keys[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V value() {
+            checkPosition();
+            return (V) values[index];
+        }
+
+        @Override
+        public void reset() {
+            index = -1;
+        }
+
+        private void checkPosition() {
+            if (index < 0 || index >= keys.length || keys[index] == null) {
+                throw new IllegalStateException("Cursor does not point to an entry");
+            }
+        }
+    }
+
+    private class SlotSpliterator implements Spliterator<Entry<K, V>> {
+        private int index;
+        private final int fence;
+
+        SlotSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            while (index < fence) {
+                int current = index++;
+                if (keys[current] != null) {
+                    action.accept(new Entry<>((K) keys[current], (V) values[current]));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            var prefix = new SlotSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) (fence - index) * size / keys.length;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    private void ensureCapacity(int expectedSize) {
+        if (expectedSize > threshold && keys.length < MAXIMUM_CAPACITY) {
+            resizeTable((int) Math.min(Math.ceil(expectedSize / (double) loadFactor) + 1, MAXIMUM_CAPACITY));
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private int findIndex(Object key, int hash) {
+        int index = hash & mask;
+        for (int distance = 0; ; distance++) {
+            Object current = keys[index];
+            if (current == null || probeDistance(hashes[index], index) < distance) {
+                return -1;
+            }
+            if (hashes[index] == hash && (current == key || current.equals(key))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts an entry that is known to be absent. Once the entry takes a slot of a richer one, the displaced entry
+     * continues probing in its place.
+     */
+    private void insertNew(Object key, Object value, int hash) {
+        int index = hash & mask;
+        int distance = 0;
+        while (keys[index] != null) {
+            int currentDistance = probeDistance(hashes[index], index);
+            if (currentDistance < distance) {
+                Object displacedKey = keys[index];
+                Object displacedValue = values[index];
+                int displacedHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = currentDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void shiftBackFrom(int index) {
+        int next = (index + 1) & mask;
+        while (keys[next] != null && probeDistance(hashes[next], next) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = null;
+        values[index] = null;
+        hashes[index] = 0;
+    }
+
+    private int probeDistance(int hash, int index) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+}
@@ -0,0 +1,192 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BoundedCache Test")
+class BoundedCacheTest {
+    private long now;
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when arguments are out of range")
+    void constructorWithWrongArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedCache<>(0));
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BoundedCache<>(8, BoundedCache.Policy.LRU, Duration.ZERO, System::nanoTime));
+        assertThatNullPointerException().isThrownBy(() -> new BoundedCache<>(8).put("a", null));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("LRU evicts the least recently used entry")
+    void lruEviction() {
+        var cache = new BoundedCache<String, Integer>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.containsKey("a")).isTrue();
+        assertThat(cache.containsKey("b")).isFalse();
+        assertThat(cache.containsKey("c")).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("LRU gives the same result as LinkedHashMap in access order")
+    void lruMatchesLinkedHashMap() {
+        var cache = new BoundedCache<Integer, Integer>(100);
+        var expected = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<Integer, Integer> eldest) {
+                return size() > 100;
+            }
+        };
+        var random = new Random(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = random.nextInt(300);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(cache.put(key, i)).isEqualTo(expected.put(key, i));
+                case 1 -> assertThat(cache.get(key)).isEqualTo(expected.get(key));
+                default -> assertThat(cache.remove(key)).isEqualTo(expected.remove(key));
+            }
+            assertThat(cache.size()).isEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("get counts hits and misses")
+    void hitAndMissCounters() {
+        var cache = new BoundedCache<String, Integer>(8);
+        cache.put("a", 1);
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.containsKey("b");
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Entries expire after write")
+    void expireAfterWrite() {
+        var cache = new BoundedCache<String, Integer>(8, BoundedCache.Policy.LRU, Duration.ofSeconds(5), () -> now);
+        cache.put("a", 1);
+        now = Duration.ofSeconds(3).toNanos();
+        cache.put("b", 2);
+        cache.get("a");
+
+        now = Duration.ofSeconds(5).toNanos();
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("put restarts expiration time of an updated entry")
+    void putRestartsExpiration() {
+        var cache = new BoundedCache<String, Integer>(8, BoundedCache.Policy.TINY_LFU, Duration.ofSeconds(5),
+                () -> now);
+        cache.put("a", 1);
+        now = Duration.ofSeconds(4).toNanos();
+        cache.put("a", 2);
+
+        now = Duration.ofSeconds(8).toNanos();
+
+        assertThat(cache.get("a")).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @Order(7)
+    @EnumSource(BoundedCache.Policy.class)
+    @DisplayName("Cache never exceeds its maximum size")
+    void neverExceedsMaximumSize(BoundedCache.Policy policy) {
+        var cache = new BoundedCache<Integer, Integer>(50, policy);
+        var random = new Random(2);
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = random.nextInt(200);
+            if (random.nextBoolean()) {
+                cache.put(key, key);
+            } else {
+                var value = cache.get(key);
+                assertThat(value == null || value == key).isTrue();
+            }
+            assertThat(cache.size()).isLessThanOrEqualTo(50);
+        }
+        var count = new int[1];
+        cache.forEach((key, value) -> count[0]++);
+        assertThat(count[0]).isEqualTo(cache.size());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("TinyLFU keeps frequently used entries during a scan")
+    void tinyLfuResistsScan() {
+        var lru = hitRateWithScan(BoundedCache.Policy.LRU);
+        var tinyLfu = hitRateWithScan(BoundedCache.Policy.TINY_LFU);
+
+        assertThat(tinyLfu).isGreaterThan(lru + 0.1);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("cursor walks through all entries")
+    void cursor() {
+        var cache = new BoundedCache<String, Integer>(8);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        var cursor = cache.cursor();
+        var sum = 0;
+
+        while (cursor.advance()) {
+            sum += cursor.value();
+        }
+
+        assertThat(sum).isEqualTo(3);
+        assertThat(cache.containsValue(2)).isTrue();
+    }
+
+    /**
+     * 70% of requests use 400 hot keys, and the rest are unique keys that are never requested again.
+     */
+    private double hitRateWithScan(BoundedCache.Policy policy) {
+        var cache = new BoundedCache<Integer, Integer>(500, policy);
+        var random = new Random(3);
+        var scanKey = 1_000_000;
+        for (int i = 0; i < 200_000; i++) {
+            var key = random.nextInt(10) < 7 ? random.nextInt(400) : scanKey++;
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+        }
+        return cache.hitRate();
+    }
+}
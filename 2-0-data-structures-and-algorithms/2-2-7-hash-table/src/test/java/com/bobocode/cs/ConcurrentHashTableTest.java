@@ -0,0 +1,231 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("ConcurrentHashTable Test")
+class ConcurrentHashTableTest {
+    private static final int KEYS_PER_THREAD = 20_000;
+
+    private final ConcurrentHashTable<Integer, Integer> hashTable = new ConcurrentHashTable<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when arguments are not positive")
+    void constructorWithWrongArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentHashTable<>(0, 16));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentHashTable<>(16, 0));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("put, get and remove work in a single thread")
+    void singleThreadOperations() {
+        assertThat(hashTable.put(1, 100)).isNull();
+        assertThat(hashTable.put(1, 200)).isEqualTo(100);
+        hashTable.put(2, 300);
+
+        assertThat(hashTable.get(1)).isEqualTo(200);
+        assertThat(hashTable.containsKey(2)).isTrue();
+        assertThat(hashTable.containsValue(300)).isTrue();
+        assertThat(hashTable.remove(2)).isEqualTo(300);
+        assertThat(hashTable.remove(2)).isNull();
+        assertThat(hashTable.size()).isEqualTo(1);
+        assertThat(hashTable.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Null keys and values are not supported")
+    void nullKeysAndValues() {
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(1, null));
+        assertThatNullPointerException().isThrownBy(() -> hashTable.get(null));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("resizeTable keeps all entries")
+    void resizeTable() {
+        for (int i = 0; i < 1_000; i++) {
+            hashTable.put(i, i);
+        }
+
+        hashTable.resizeTable(4096);
+
+        assertThat(hashTable.toString().lines()).hasSize(4096);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(hashTable.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Readers always see keys that were put before they started")
+    @SneakyThrows
+    void readersDuringWrites() {
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            hashTable.put(-i - 1, i);
+        }
+        var executor = Executors.newFixedThreadPool(4);
+        var writer = executor.submit(() -> {
+            for (int i = 0; i < 10 * KEYS_PER_THREAD; i++) {
+                hashTable.put(i, i);
+            }
+        });
+        var reader = executor.submit(() -> {
+            while (!writer.isDone()) {
+                for (int i = 0; i < KEYS_PER_THREAD; i += 100) {
+                    assertThat(hashTable.get(-i - 1)).isEqualTo(i);
+                }
+            }
+        });
+
+        writer.get();
+        reader.get();
+        shutdown(executor);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("putAll and forEach copy all entries")
+    void putAllAndForEach() {
+        var other = new ConcurrentHashTable<Integer, Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            other.put(i, i * 10);
+        }
+
+        hashTable.putAll(other);
+        var sum = new LongAdder();
+        hashTable.forEach((key, value) -> sum.add(value - key * 10));
+
+        assertThat(hashTable.size()).isEqualTo(1_000);
+        assertThat(hashTable.get(999)).isEqualTo(9_990);
+        assertThat(sum.sum()).isZero();
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("cursor and spliterator walk through all entries")
+    void cursorAndSpliterator() {
+        for (int i = 0; i < 1_000; i++) {
+            hashTable.put(i, i);
+        }
+        var cursor = hashTable.cursor();
+        var count = 0;
+
+        while (cursor.advance()) {
+            assertThat(cursor.value()).isEqualTo(cursor.key());
+            count++;
+        }
+        var sum = StreamSupport.stream(hashTable.spliterator(), true)
+                .mapToLong(Map.Entry::value)
+                .sum();
+
+        assertThat(count).isEqualTo(1_000);
+        assertThat(sum).isEqualTo(1_000L * 999 / 2);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("stats reports size, chains and resizes")
+    void stats() {
+        var table = new ConcurrentHashTable<Integer, Integer>(16, 1);
+        for (int i = 0; i < 1_000; i++) {
+            table.put(i, i);
+        }
+
+        var stats = table.stats();
+
+        assertThat(stats.size()).isEqualTo(1_000);
+        assertThat(stats.capacity()).isGreaterThanOrEqualTo(1_000);
+        assertThat(stats.resizeCount()).isPositive();
+        assertThat(stats.resizeNanos()).isPositive();
+        assertThat(Arrays.stream(stats.chainLengthHistogram()).sum()).isEqualTo(stats.capacity());
+        assertThat(stats.chainLengthHistogram()).hasSize(stats.maxChainLength() + 1);
+        assertThat(stats.estimatedRetainedBytes()).isGreaterThan(1_000L * HashTableStats.NODE_BYTES);
+
+        var histogram = stats.chainLengthHistogram();
+        var copy = new HashTableStats(stats.capacity(), stats.size(), histogram, stats.maxChainLength(),
+                stats.resizeCount(), stats.resizeNanos(), stats.estimatedRetainedBytes());
+        histogram[0] = -1;
+
+        assertThat(stats.chainLengthHistogram()[0]).isNotNegative();
+        assertThat(copy).isEqualTo(stats).hasSameHashCodeAs(stats);
+        assertThat(copy.toString()).isEqualTo(stats.toString());
+    }
+
+    @ParameterizedTest(name = "{0} threads")
+    @Order(9)
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32, 64})
+    @DisplayName("Concurrent puts and removes give a consistent result")
+    @SneakyThrows
+    void concurrentPutAndRemove(int threads) {
+        var executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            var base = t * KEYS_PER_THREAD;
+            futures[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    hashTable.put(base + i, i);
+                    assertThat(hashTable.get(base + i)).isEqualTo(i);
+                }
+                for (int i = 0; i < KEYS_PER_THREAD; i += 2) {
+                    assertThat(hashTable.remove(base + i)).isEqualTo(i);
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        for (var future : futures) {
+            future.get();
+        }
+        shutdown(executor);
+
+        assertThat(hashTable.size()).isEqualTo(threads * KEYS_PER_THREAD / 2);
+        for (int key = 0; key < threads * KEYS_PER_THREAD; key++) {
+            var i = key % KEYS_PER_THREAD;
+            assertThat(hashTable.get(key)).isEqualTo(i % 2 == 0 ? null : i);
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("putAll throws exception when arrays have different length and does not resize the table")
+    void putAllWithDifferentLength() {
+        var capacity = hashTable.stats().capacity();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> hashTable.putAll(new Integer[1_000], new Integer[0]));
+        assertThat(hashTable.stats().capacity()).isEqualTo(capacity);
+    }
+
+    @SneakyThrows
+    private void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
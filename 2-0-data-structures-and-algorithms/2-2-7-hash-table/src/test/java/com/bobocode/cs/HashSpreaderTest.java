@@ -0,0 +1,98 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("HashSpreader Test")
+class HashSpreaderTest {
+    private static final int KEYS = 3_072;
+    private static final int CAPACITY = 4_096;
+
+    static Stream<Arguments> spreadersAndKeyDistributions() {
+        return Stream.of(HashSpreader.MURMUR3, HashSpreader.FIBONACCI, HashSpreader.seeded(42))
+                .flatMap(spreader -> Stream.of(KeyDistribution.values())
+                        .map(distribution -> Arguments.of(spreader, distribution)));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("index is in array bounds for any hash code and capacity")
+    void indexInArrayBounds() {
+        var random = new Random(7);
+        var spreaders = new HashSpreader[]{HashSpreader.IDENTITY, HashSpreader.XOR_SHIFT, HashSpreader.MURMUR3,
+                HashSpreader.FIBONACCI, HashSpreader.randomized()};
+
+        for (var spreader : spreaders) {
+            for (var capacity : new int[]{1, 7, 8, 10, 1 << 20}) {
+                for (int i = 0; i < 1_000; i++) {
+                    assertThat(spreader.index(random.nextInt(), capacity)).isBetween(0, capacity - 1);
+                }
+                assertThat(spreader.index(Integer.MIN_VALUE, capacity)).isBetween(0, capacity - 1);
+            }
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("FIBONACCI takes the higher bits of a power-of-two table")
+    void fibonacciTakesHigherBits() {
+        for (int hashCode = 0; hashCode < 1_000; hashCode++) {
+            assertThat(HashSpreader.FIBONACCI.index(hashCode, 1 << 10))
+                    .isEqualTo((hashCode * HashSpreader.GOLDEN_RATIO) >>> 22);
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Spreaders with different seeds put keys into different buckets")
+    void seededSpreaders() {
+        var first = HashSpreader.seeded(1);
+        var second = HashSpreader.seeded(2);
+
+        var differentIndexes = IntStream.range(0, 1_000)
+                .filter(i -> first.index(i, CAPACITY) != second.index(i, CAPACITY))
+                .count();
+
+        assertThat(differentIndexes).isGreaterThan(900);
+        assertThat(HashSpreader.seeded(1).index(123, CAPACITY)).isEqualTo(first.index(123, CAPACITY));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("IDENTITY gives long chains for ids with a common step")
+    void identityGivesLongChains() {
+        assertThat(maxChainLength(HashSpreader.IDENTITY, KeyDistribution.IDS_WITH_STEP_1024)).isGreaterThan(100);
+        assertThat(maxChainLength(HashSpreader.XOR_SHIFT, KeyDistribution.IDS_WITH_STEP_1024)).isGreaterThan(8);
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @Order(5)
+    @MethodSource("spreadersAndKeyDistributions")
+    @DisplayName("Mixing spreaders keep chains short for real key distributions")
+    void mixingSpreadersKeepChainsShort(HashSpreader spreader, KeyDistribution distribution) {
+        assertThat(maxChainLength(spreader, distribution)).isLessThanOrEqualTo(8);
+    }
+
+    private int maxChainLength(HashSpreader spreader, KeyDistribution distribution) {
+        var chains = new int[CAPACITY];
+        var maxChainLength = 0;
+        for (int i = 0; i < KEYS; i++) {
+            var index = spreader.index(distribution.key(i).hashCode(), CAPACITY);
+            maxChainLength = Math.max(maxChainLength, ++chains[index]);
+        }
+        return maxChainLength;
+    }
+}
@@ -0,0 +1,221 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of hash tables. They print their measurements instead of checking them, because timings depend on the
+ * machine, so they are not part of a regular build. Run them with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("HashTable Benchmark")
+class HashTableBenchmark {
+    private static final int ROUNDS = 5;
+    private static final int KEYS_PER_THREAD = 20_000;
+    private static final int SPREADER_KEYS = 3_072;
+    private static final int SPREADER_CAPACITY = 4_096;
+    private static final int BULK_LOAD_KEYS = 1_000_000;
+
+    /**
+     * Every thread puts, gets and removes its own keys. {@link ConcurrentHashTable} is compared with a map where every
+     * operation takes one lock. {@link HashTable} is an exercise, so {@link Collections#synchronizedMap} of
+     * {@link HashMap} stands for it.
+     */
+    @ParameterizedTest(name = "{0} threads")
+    @Order(1)
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32, 64})
+    @DisplayName("Throughput of concurrent puts, gets and removes")
+    void concurrentPutGetRemove(int threads) {
+        var concurrentOps = bestOpsPerMilli(threads, () -> {
+            var table = new ConcurrentHashTable<Integer, Integer>();
+            return putGetRemove(table::put, table::get, table::remove);
+        });
+        var synchronizedOps = bestOpsPerMilli(threads, () -> {
+            var map = Collections.synchronizedMap(new HashMap<Integer, Integer>());
+            return putGetRemove(map::put, map::get, map::remove);
+        });
+
+        System.out.printf("%2d threads on %d cores: ConcurrentHashTable %d ops/ms, synchronized HashMap %d ops/ms%n",
+                threads, Runtime.getRuntime().availableProcessors(), concurrentOps, synchronizedOps);
+    }
+
+    /**
+     * Compares the heap that is used by {@link IntIntHashTable} and by {@link HashMap} of boxed keys and values. It's
+     * an estimate, because it depends on how much garbage the collector has collected.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("Heap used by a million int entries")
+    void intIntFootprint() {
+        var entries = 1_000_000;
+
+        var before = usedHeap();
+        var primitiveTable = new IntIntHashTable();
+        for (int i = 0; i < entries; i++) {
+            primitiveTable.put(i, i);
+        }
+        var primitiveTableBytes = usedHeap() - before;
+
+        before = usedHeap();
+        var boxedMap = new HashMap<Integer, Integer>();
+        for (int i = 0; i < entries; i++) {
+            boxedMap.put(i, i);
+        }
+        var boxedMapBytes = usedHeap() - before;
+
+        System.out.printf("IntIntHashTable of %d entries: %d KB, HashMap<Integer, Integer> of %d entries: %d KB%n",
+                primitiveTable.size(), primitiveTableBytes / 1024, boxedMap.size(), boxedMapBytes / 1024);
+    }
+
+    /**
+     * Prints the longest chain and the time of an index calculation for every spreader and key distribution.
+     */
+    @ParameterizedTest(name = "{0}")
+    @Order(3)
+    @EnumSource(KeyDistribution.class)
+    @DisplayName("Chain length and throughput of all spreaders")
+    void compareSpreaders(KeyDistribution distribution) {
+        var hashCodes = IntStream.range(0, SPREADER_KEYS).map(i -> distribution.key(i).hashCode()).toArray();
+        var spreaders = new String[]{"identity", "xor-shift", "murmur3", "fibonacci", "seeded"};
+        var functions = new HashSpreader[]{HashSpreader.IDENTITY, HashSpreader.XOR_SHIFT, HashSpreader.MURMUR3,
+                HashSpreader.FIBONACCI, HashSpreader.seeded(42)};
+
+        for (int s = 0; s < functions.length; s++) {
+            var spreader = functions[s];
+            var checksum = 0L;
+            var startTime = System.nanoTime();
+            for (int round = 0; round < 200; round++) {
+                for (var hashCode : hashCodes) {
+                    checksum += spreader.index(hashCode, SPREADER_CAPACITY);
+                }
+            }
+            var nanosPerIndex = (double) (System.nanoTime() - startTime) / (200L * SPREADER_KEYS);
+            System.out.printf("%s, %s: max chain %d, %.2f ns/index (checksum %d)%n",
+                    distribution, spreaders[s], maxChainLength(spreader, hashCodes), nanosPerIndex, checksum);
+        }
+    }
+
+    /**
+     * Loads the same keys into an empty table with one {@link Map#putAll(Object[], Object[])} call and with a loop of
+     * {@link Map#put(Object, Object)} calls, which resizes the table every time it gets full.
+     */
+    @ParameterizedTest(name = "{0}")
+    @Order(4)
+    @ValueSource(strings = {"RobinHoodHashTable", "ConcurrentHashTable"})
+    @DisplayName("Bulk load with putAll compared with a loop of puts")
+    void putAllComparedWithPutLoop(String tableType) {
+        Supplier<Map<String, Integer>> newTable = tableType.equals("RobinHoodHashTable")
+                ? RobinHoodHashTable::new
+                : ConcurrentHashTable::new;
+        var keys = new String[BULK_LOAD_KEYS];
+        var values = new Integer[BULK_LOAD_KEYS];
+        for (int i = 0; i < BULK_LOAD_KEYS; i++) {
+            keys[i] = "key" + i;
+            values[i] = i;
+        }
+
+        var putAllNanos = bestNanos(() -> newTable.get().putAll(keys, values));
+        var putLoopNanos = bestNanos(() -> {
+            var table = newTable.get();
+            for (int i = 0; i < keys.length; i++) {
+                table.put(keys[i], values[i]);
+            }
+        });
+
+        System.out.printf("%s, %d keys: putAll %d ms, put loop %d ms (%.2fx)%n", tableType, BULK_LOAD_KEYS,
+                putAllNanos / 1_000_000, putLoopNanos / 1_000_000, (double) putLoopNanos / putAllNanos);
+    }
+
+    private static long bestNanos(Runnable load) {
+        var bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            var startTime = System.nanoTime();
+            load.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startTime);
+        }
+        return bestNanos;
+    }
+
+    private static IntConsumer putGetRemove(BiFunction<Integer, Integer, Integer> put,
+                                            Function<Integer, Integer> get,
+                                            Function<Integer, Integer> remove) {
+        return base -> {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                put.apply(base + i, i);
+                get.apply(base + i);
+            }
+            for (int i = 0; i < KEYS_PER_THREAD; i += 2) {
+                remove.apply(base + i);
+            }
+        };
+    }
+
+    /**
+     * Runs a workload on a given number of threads a few times, each time on a new table, and returns the best result.
+     */
+    @SneakyThrows
+    private static long bestOpsPerMilli(int threads, Supplier<IntConsumer> newWorkload) {
+        var executor = Executors.newFixedThreadPool(threads);
+        var bestOpsPerMilli = 0L;
+        for (int round = 0; round < ROUNDS; round++) {
+            var workload = newWorkload.get();
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                var base = t * KEYS_PER_THREAD;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    workload.accept(base);
+                    return null;
+                }));
+            }
+            var startTime = System.nanoTime();
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+            var elapsedNanos = System.nanoTime() - startTime;
+            bestOpsPerMilli = Math.max(bestOpsPerMilli, threads * KEYS_PER_THREAD * 5L / 2 * 1_000_000 / elapsedNanos);
+        }
+        executor.shutdown();
+        return bestOpsPerMilli;
+    }
+
+    private static int maxChainLength(HashSpreader spreader, int[] hashCodes) {
+        var chains = new int[SPREADER_CAPACITY];
+        var maxChainLength = 0;
+        for (var hashCode : hashCodes) {
+            maxChainLength = Math.max(maxChainLength, ++chains[spreader.index(hashCode, SPREADER_CAPACITY)]);
+        }
+        return maxChainLength;
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
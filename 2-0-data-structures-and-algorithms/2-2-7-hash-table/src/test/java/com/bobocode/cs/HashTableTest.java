@@ -7,11 +7,15 @@ import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.bobocode.cs.HashTable.TREEIFY_THRESHOLD;
 import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -475,6 +479,496 @@ class HashTableTest {
 
     }
 
+    @Nested
+    @Order(7)
+    @DisplayName("7. Incremental resize Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableIncrementalResizeTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("isResizing returns false for a new table")
+        void isResizingWhenTableIsNew() {
+            assertFalse(hashTable.isResizing());
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("enableIncrementalResize throws exception when argument is not positive")
+        void enableIncrementalResizeWhenArgumentIsNotPositive() {
+            assertThatThrownBy(() -> hashTable.enableIncrementalResize(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("resizeTable creates a new array and keeps elements accessible when incremental resize is enabled")
+        void resizeTableIncrementally() {
+            hashTable.enableIncrementalResize(1);
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.put("AaAa", 123);
+            hashTable.put("BBBB", 456);
+
+            hashTable.resizeTable(16);
+
+            assertThat(getInternalTable(hashTable)).hasSize(16);
+            assertTrue(hashTable.isResizing());
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+            assertThat(hashTable.get("AaAa")).isEqualTo(123);
+            assertThat(hashTable.get("BBBB")).isEqualTo(456);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("Operations move all elements to the new array")
+        void operationsFinishIncrementalResize() {
+            hashTable.enableIncrementalResize(1);
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.resizeTable(16);
+
+            for (int i = 0; i < 8 && hashTable.isResizing(); i++) {
+                hashTable.get("xxx");
+            }
+
+            assertFalse(hashTable.isResizing());
+            assertTrue(checkKeyValueMappingExists("madmax", 833));
+            assertTrue(checkKeyValueMappingExists("altea", 553));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("put, remove and size work while incremental resize is in progress")
+        void putAndRemoveWhileResizing() {
+            hashTable.enableIncrementalResize(1);
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.resizeTable(16);
+
+            var previousValue = hashTable.put("madmax", 876);
+            hashTable.put("johnny", 439);
+            var removedValue = hashTable.remove("altea");
+
+            assertThat(previousValue).isEqualTo(833);
+            assertThat(removedValue).isEqualTo(553);
+            assertThat(hashTable.get("madmax")).isEqualTo(876);
+            assertThat(hashTable.containsKey("altea")).isFalse();
+            assertThat(hashTable.size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @Order(8)
+    @DisplayName("8. Tree buckets Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableTreeBucketsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("compareKeys uses natural order for comparable keys")
+        void compareKeysWhenKeysAreComparable() {
+            assertThat(HashTable.compareKeys("AaAa", "BBBB")).isNegative();
+            assertThat(HashTable.compareKeys("BBBB", "AaAa")).isPositive();
+            assertThat(HashTable.compareKeys("AaAa", "AaAa")).isZero();
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("compareKeys breaks a tie for non-comparable keys")
+        void compareKeysWhenKeysAreNotComparable() {
+            var a = new Object();
+            var b = new Object();
+
+            assertThat(Integer.signum(HashTable.compareKeys(a, b)))
+                    .isEqualTo(-Integer.signum(HashTable.compareKeys(b, a)));
+            assertThat(HashTable.compareKeys(a, "AaAa")).isNotZero();
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("put, get and remove work when a bucket is converted into a tree")
+        void operationsWithCollidingKeys() {
+            var table = new HashTable<CollidingKey, Integer>();
+            var keysCount = TREEIFY_THRESHOLD * 10;
+            for (int i = 0; i < keysCount; i++) {
+                table.put(new CollidingKey(i), i);
+            }
+
+            for (int i = 0; i < keysCount; i += 2) {
+                assertThat(table.remove(new CollidingKey(i))).isEqualTo(i);
+            }
+
+            assertThat(table.size()).isEqualTo(keysCount / 2);
+            for (int i = 0; i < keysCount; i++) {
+                assertThat(table.get(new CollidingKey(i))).isEqualTo(i % 2 == 0 ? null : i);
+            }
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("put and get work for non-comparable keys with the same hash code")
+        void operationsWithNonComparableCollidingKeys() {
+            var table = new HashTable<Object, Integer>();
+            var keys = Stream.generate(NonComparableCollidingKey::new).limit(TREEIFY_THRESHOLD * 4L).toList();
+            for (int i = 0; i < keys.size(); i++) {
+                table.put(keys.get(i), i);
+            }
+
+            for (int i = 0; i < keys.size(); i++) {
+                assertThat(table.get(keys.get(i))).isEqualTo(i);
+            }
+            assertThat(table.get(new NonComparableCollidingKey())).isNull();
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("Lookups compare O(log n) keys when all keys have the same hash code")
+        void lookupsUnderHashFlooding() {
+            var table = new HashTable<CountingCollidingKey, Integer>();
+            var comparisons = new LongAdder();
+            var keysCount = 10_000;
+            for (int i = 0; i < keysCount; i++) {
+                table.put(new CountingCollidingKey(i, comparisons), i);
+            }
+            comparisons.reset();
+
+            for (int i = 0; i < keysCount; i++) {
+                assertThat(table.get(new CountingCollidingKey(i, comparisons))).isEqualTo(i);
+            }
+
+            // a tree of n keys is at most 2 * log2(n) deep, and a lookup may call both equals and compareTo per node
+            var maxComparisonsPerLookup = 5 * Math.log(keysCount) / Math.log(2);
+            assertThat(comparisons.sum()).isLessThanOrEqualTo((long) (keysCount * maxComparisonsPerLookup));
+        }
+    }
+
+    @Nested
+    @Order(9)
+    @DisplayName("9. Batch operations Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableBatchOperationsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("forEach visits every entry")
+        void forEachEntry() {
+            addToTable("madmax", 833);
+            addToTable("AaAa", 123);
+            addToTable("BBBB", 456);
+            var visited = new HashMap<String, Integer>();
+
+            hashTable.forEach(visited::put);
+
+            assertThat(visited).hasSize(3)
+                    .containsEntry("madmax", 833)
+                    .containsEntry("AaAa", 123)
+                    .containsEntry("BBBB", 456);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("putAll resizes the table once and copies all entries from another map")
+        void putAllFromMap() {
+            var other = new RobinHoodHashTable<String, Integer>();
+            for (int i = 0; i < 100; i++) {
+                other.put("key" + i, i);
+            }
+
+            var resizesBefore = hashTable.stats().resizeCount();
+
+            hashTable.putAll(other);
+
+            assertThat(hashTable.stats().resizeCount()).isEqualTo(resizesBefore + 1);
+            assertThat(getInternalTable(hashTable).length).isGreaterThanOrEqualTo(100);
+            assertThat(hashTable.size()).isEqualTo(100);
+            for (int i = 0; i < 100; i++) {
+                assertTrue(checkKeyValueMappingExists("key" + i, i));
+            }
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("putAll adds keys and values from arrays")
+        void putAllFromArrays() {
+            var keys = new String[]{"madmax", "altea", "johnny"};
+            var values = new Integer[]{833, 553, 439};
+
+            hashTable.putAll(keys, values);
+
+            assertThat(hashTable.size()).isEqualTo(3);
+            assertTrue(checkKeyValueMappingExists("madmax", 833));
+            assertTrue(checkKeyValueMappingExists("altea", 553));
+            assertTrue(checkKeyValueMappingExists("johnny", 439));
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("putAll throws exception when arrays have different length and does not resize the table")
+        void putAllWithDifferentLength() {
+            assertThatThrownBy(() -> hashTable.putAll(new String[1_000], new Integer[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(hashTable.stats().resizeCount()).isZero();
+        }
+    }
+
+    @Nested
+    @Order(10)
+    @DisplayName("10. Iteration Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableIterationTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("cursor walks through all entries including the ones with the same index")
+        void cursorWalksThroughAllEntries() {
+            addToTable("madmax", 833);
+            addToTable("AaAa", 123);
+            addToTable("BBBB", 456);
+            var visited = new HashMap<String, Integer>();
+            var cursor = hashTable.cursor();
+
+            while (cursor.advance()) {
+                visited.put(cursor.key(), cursor.value());
+            }
+
+            assertThat(visited).hasSize(3)
+                    .containsEntry("madmax", 833)
+                    .containsEntry("AaAa", 123)
+                    .containsEntry("BBBB", 456);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("cursor returns false when the table is empty")
+        void cursorWhenTableIsEmpty() {
+            var cursor = hashTable.cursor();
+
+            assertFalse(cursor.advance());
+            assertThatThrownBy(cursor::key).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("cursor can be reset and used again")
+        void cursorReset() {
+            addToTable("madmax", 833);
+            var cursor = hashTable.cursor();
+            while (cursor.advance()) {
+                cursor.key();
+            }
+
+            cursor.reset();
+
+            assertTrue(cursor.advance());
+            assertThat(cursor.key()).isEqualTo("madmax");
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("spliterator splits the table and allows to use a parallel stream")
+        void spliterator() {
+            addToTable("madmax", 833);
+            addToTable("altea", 553);
+            addToTable("AaAa", 123);
+            addToTable("BBBB", 456);
+
+            var sum = StreamSupport.stream(hashTable.spliterator(), true)
+                    .mapToInt(Map.Entry::value)
+                    .sum();
+
+            assertThat(hashTable.spliterator().trySplit()).isNotNull();
+            assertThat(sum).isEqualTo(833 + 553 + 123 + 456);
+        }
+    }
+
+    @Nested
+    @Order(11)
+    @DisplayName("11. Stats Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableStatsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("stats reports capacity, size and load factor")
+        void statsCapacityAndSize() {
+            addToTable("madmax", 833);
+            addToTable("altea", 553);
+            setSize(2);
+
+            var stats = hashTable.stats();
+
+            assertThat(stats.capacity()).isEqualTo(getInternalTable(hashTable).length);
+            assertThat(stats.size()).isEqualTo(2);
+            assertThat(stats.loadFactor()).isEqualTo(2.0 / stats.capacity());
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("stats reports a chain length histogram and the longest chain")
+        void statsChainLengthHistogram() {
+            addToTable("AaAa", 123);
+            addToTable("BBBB", 456);
+            addToTable("AaBB", 789);
+            setSize(3);
+            var capacity = getInternalTable(hashTable).length;
+
+            var stats = hashTable.stats();
+
+            assertThat(stats.maxChainLength()).isEqualTo(3);
+            assertThat(stats.bucketsWithChainLength(3)).isEqualTo(1);
+            assertThat(stats.bucketsWithChainLength(0)).isEqualTo(capacity - 1);
+            assertThat(Arrays.stream(stats.chainLengthHistogram()).sum()).isEqualTo(capacity);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("stats counts resizes")
+        void statsResizeCount() {
+            var before = hashTable.stats();
+
+            hashTable.resizeTable(32);
+            hashTable.resizeTable(64);
+            var after = hashTable.stats();
+
+            assertThat(after.resizeCount()).isEqualTo(before.resizeCount() + 2);
+            assertThat(after.resizeNanos()).isGreaterThanOrEqualTo(before.resizeNanos());
+            assertThat(after.capacity()).isEqualTo(64);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("stats estimates retained heap of the array and nodes")
+        void statsEstimatedRetainedBytes() {
+            addToTable("madmax", 833);
+            setSize(1);
+
+            var stats = hashTable.stats();
+
+            assertThat(stats.estimatedRetainedBytes())
+                    .isEqualTo(HashTableStats.estimateRetainedBytes(stats.capacity(), 1));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("stats does not change the table")
+        void statsDoesNotChangeTable() {
+            addToTable("madmax", 833);
+            addToTable("AaAa", 123);
+            setSize(2);
+            var tableBefore = tableToString(getInternalTable(hashTable));
+
+            hashTable.stats();
+
+            assertThat(tableToString(getInternalTable(hashTable))).isEqualTo(tableBefore);
+        }
+    }
+
+    @Nested
+    @Order(12)
+    @DisplayName("12. Hash spreaders Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableSpreadersTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("calculateIndex uses a given spreader")
+        void calculateIndexUsesSpreader() {
+            HashSpreader spreader = hashCode -> 5;
+
+            var index = HashTable.calculateIndex("madmax", 8, spreader);
+
+            assertThat(index).isEqualTo(5);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("calculateIndex returns an index in array bounds for all spreaders")
+        void calculateIndexReturnIndexInArrayBoundsForAllSpreaders() {
+            var spreaders = Stream.of(HashSpreader.IDENTITY, HashSpreader.XOR_SHIFT, HashSpreader.MURMUR3,
+                    HashSpreader.FIBONACCI, HashSpreader.seeded(42));
+
+            spreaders.forEach(spreader -> assertThat(Stream.of("A", "Aa", -1L, Long.MAX_VALUE, Integer.MIN_VALUE)
+                    .map(key -> HashTable.calculateIndex(key, 8, spreader)))
+                    .allMatch(i -> i >= 0 && i < 8));
+        }
+
+        @Test
+        @Order(3)
+        @SneakyThrows
+        @DisplayName("A constructor accepts an initial array size and a spreader")
+        void constructorWithSpreader() {
+            var constructor = HashTable.class.getConstructor(int.class, HashSpreader.class);
+
+            @SuppressWarnings("unchecked")
+            var table = (HashTable<Integer, Integer>) constructor.newInstance(16, HashSpreader.FIBONACCI);
+
+            assertThat(getInternalTable(table)).hasSize(16);
+        }
+
+        @Test
+        @Order(4)
+        @SneakyThrows
+        @DisplayName("put and get work when a table is created with a spreader")
+        void putAndGetWithSpreader() {
+            var constructor = HashTable.class.getConstructor(int.class, HashSpreader.class);
+            @SuppressWarnings("unchecked")
+            var table = (HashTable<Integer, Integer>) constructor.newInstance(16, HashSpreader.randomized());
+
+            for (int i = 0; i < 1_000; i++) {
+                table.put(i * 1024, i);
+            }
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(table.get(i * 1024)).isEqualTo(i);
+            }
+            assertThat(table.size()).isEqualTo(1_000);
+        }
+    }
+
+    record CollidingKey(int id) implements Comparable<CollidingKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * A colliding key that counts calls of {@link CountingCollidingKey#compareTo} and
+     * {@link CountingCollidingKey#equals}, so a test can check how many keys a lookup looks at.
+     */
+    record CountingCollidingKey(int id, LongAdder comparisons) implements Comparable<CountingCollidingKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            comparisons.increment();
+            return o instanceof CountingCollidingKey other && id == other.id;
+        }
+
+        @Override
+        public int compareTo(CountingCollidingKey other) {
+            comparisons.increment();
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    static class NonComparableCollidingKey {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
     // Util methods
     @SneakyThrows
     private Object[] getInternalTable(HashTable<?, ?> hashTable) {
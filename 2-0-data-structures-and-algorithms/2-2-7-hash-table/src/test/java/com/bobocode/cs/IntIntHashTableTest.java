@@ -0,0 +1,136 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("IntIntHashTable Test")
+class IntIntHashTableTest {
+    private final IntIntHashTable hashTable = new IntIntHashTable();
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when arguments are out of range")
+    void constructorWithWrongArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntIntHashTable(0, 0.5f));
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntIntHashTable(8, 0f));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("put creates or updates a mapping")
+    void put() {
+        assertThat(hashTable.put(10, 100)).isEqualTo(IntIntHashTable.DEFAULT_NO_VALUE);
+        assertThat(hashTable.put(10, 200)).isEqualTo(100);
+
+        assertThat(hashTable.get(10)).isEqualTo(200);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("put accepts zero and negative keys")
+    void putZeroAndNegativeKeys() {
+        hashTable.put(0, 1);
+        hashTable.put(-1, 2);
+
+        assertThat(hashTable.get(0)).isEqualTo(1);
+        assertThat(hashTable.get(-1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("put throws exception when key is equal to the no key value")
+    void putNoKey() {
+        assertThatIllegalArgumentException().isThrownBy(() -> hashTable.put(IntIntHashTable.DEFAULT_NO_KEY, 1));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("get returns the no value when key does not exist")
+    void getNotExistingKey() {
+        var table = new IntIntHashTable(8, 0.5f, -1, -100);
+
+        assertThat(table.get(42)).isEqualTo(-100);
+        assertThat(table.getOrDefault(42, 7)).isEqualTo(7);
+        assertThat(table.containsKey(-1)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("containsKey and containsValue find existing entries")
+    void containsKeyAndValue() {
+        hashTable.put(1, 553);
+
+        assertThat(hashTable.containsKey(1)).isTrue();
+        assertThat(hashTable.containsKey(2)).isFalse();
+        assertThat(hashTable.containsValue(553)).isTrue();
+        assertThat(hashTable.containsValue(886)).isFalse();
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("remove deletes a mapping and keeps colliding keys accessible")
+    void remove() {
+        var table = new IntIntHashTable(64, 0.9f);
+        for (int i = 0; i < 50; i++) {
+            table.put(i * 64, i);
+        }
+
+        assertThat(table.remove(0)).isEqualTo(0);
+        assertThat(table.remove(64 * 10)).isEqualTo(10);
+        assertThat(table.remove(1)).isEqualTo(IntIntHashTable.DEFAULT_NO_VALUE);
+
+        assertThat(table.size()).isEqualTo(48);
+        for (int i = 1; i < 50; i++) {
+            assertThat(table.containsKey(i * 64)).isEqualTo(i != 10);
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Random operations give the same result as java.util.HashMap")
+    void randomOperations() {
+        var random = new Random(42);
+        var expected = new HashMap<Integer, Integer>();
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = random.nextInt(2_000) - 1_000;
+            var value = random.nextInt(1_000) + 1;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(hashTable.put(key, value))
+                        .isEqualTo(Objects.requireNonNullElse(expected.put(key, value), 0));
+                case 1 -> assertThat(hashTable.remove(key))
+                        .isEqualTo(Objects.requireNonNullElse(expected.remove(key), 0));
+                default -> assertThat(hashTable.get(key)).isEqualTo(expected.getOrDefault(key, 0));
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Table stores an entry in fewer bytes than a node of a chained table")
+    void footprint() {
+        var entries = 1_000_000;
+        for (int i = 0; i < entries; i++) {
+            hashTable.put(i, i);
+        }
+
+        var arrayBytes = 2L * Integer.BYTES * hashTable.capacity();
+
+        assertThat(hashTable.size()).isEqualTo(entries);
+        assertThat(hashTable.capacity()).isGreaterThan(entries).isLessThanOrEqualTo((int) (2 * entries / 0.75));
+        assertThat(arrayBytes / entries).isLessThan(HashTableStats.NODE_BYTES);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bobocode.cs;
+
+/**
+ * {@link KeyDistribution} generates keys which hash codes are poorly distributed in the way real keys often are. A
+ * spreader that takes an index from such hash code as is gives long chains, so spreaders are checked on all of them.
+ */
+enum KeyDistribution {
+    SEQUENTIAL_IDS,
+    IDS_WITH_STEP_1024,
+    LOW_ENTROPY_STRINGS,
+    LONG_IDS_IN_HIGHER_BITS;
+
+    /**
+     * @param i a key number
+     * @return the i-th key of this distribution
+     */
+    Object key(int i) {
+        return switch (this) {
+            case SEQUENTIAL_IDS -> i;
+            case IDS_WITH_STEP_1024 -> i * 1024;
+            case LOW_ENTROPY_STRINGS -> "user-" + i;
+            case LONG_IDS_IN_HIGHER_BITS -> (long) i << 32;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("LongObjectHashTable Test")
+class LongObjectHashTableTest {
+    private final LongObjectHashTable<String> hashTable = new LongObjectHashTable<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("put creates or updates a mapping")
+    void put() {
+        assertThat(hashTable.put(10L, "madmax")).isNull();
+        assertThat(hashTable.put(10L, "leon")).isEqualTo("madmax");
+
+        assertThat(hashTable.get(10L)).isEqualTo("leon");
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("put accepts large ids that do not fit into int")
+    void putLargeKeys() {
+        hashTable.put(1L << 40, "altea");
+        hashTable.put((1L << 40) + 1, "johnny");
+
+        assertThat(hashTable.get(1L << 40)).isEqualTo("altea");
+        assertThat(hashTable.get((1L << 40) + 1)).isEqualTo("johnny");
+        assertThat(hashTable.get(0L)).isNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("put throws exception when key is equal to the no key value")
+    void putNoKey() {
+        var table = new LongObjectHashTable<String>(8, 0.5f, 0L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> table.put(0L, "madmax"));
+        assertThat(table.containsKey(0L)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("containsKey and containsValue find existing entries")
+    void containsKeyAndValue() {
+        hashTable.put(1L, "altea");
+
+        assertThat(hashTable.containsKey(1L)).isTrue();
+        assertThat(hashTable.containsKey(2L)).isFalse();
+        assertThat(hashTable.containsValue("altea")).isTrue();
+        assertThat(hashTable.containsValue("leon")).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("remove deletes a mapping and returns a removed value")
+    void remove() {
+        hashTable.put(1L, "altea");
+        hashTable.put(2L, "leon");
+
+        assertThat(hashTable.remove(1L)).isEqualTo("altea");
+        assertThat(hashTable.remove(1L)).isNull();
+        assertThat(hashTable.get(2L)).isEqualTo("leon");
+        assertThat(hashTable.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Random operations give the same result as java.util.HashMap")
+    void randomOperations() {
+        var random = new Random(42);
+        var expected = new HashMap<Long, String>();
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = random.nextInt(2_000) * 1_000_003L;
+            var value = String.valueOf(random.nextInt());
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(hashTable.put(key, value)).isEqualTo(expected.put(key, value));
+                case 1 -> assertThat(hashTable.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(hashTable.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+    }
+}
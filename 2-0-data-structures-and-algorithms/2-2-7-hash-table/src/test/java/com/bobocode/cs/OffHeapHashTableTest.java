@@ -0,0 +1,226 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static com.bobocode.cs.OffHeapHashTable.Codec;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("OffHeapHashTable Test")
+class OffHeapHashTableTest {
+    private final OffHeapHashTable<String, Integer> hashTable =
+            new OffHeapHashTable<>(Codec.STRING, Codec.INTEGER, 8, 1024);
+
+    @AfterEach
+    void close() {
+        hashTable.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when sizes are not positive")
+    void constructorWithWrongArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new OffHeapHashTable<>(Codec.STRING, Codec.INTEGER, 0, 1024));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new OffHeapHashTable<>(Codec.STRING, Codec.INTEGER, 8, 0));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("put creates or updates a mapping")
+    void put() {
+        assertThat(hashTable.put("madmax", 833)).isNull();
+        assertThat(hashTable.put("madmax", 886)).isEqualTo(833);
+
+        assertThat(hashTable.get("madmax")).isEqualTo(886);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Null keys and values are not supported")
+    void nullKeysAndValues() {
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put("madmax", null));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("containsKey and containsValue find existing entries")
+    void containsKeyAndValue() {
+        hashTable.put("altea", 553);
+
+        assertThat(hashTable.containsKey("altea")).isTrue();
+        assertThat(hashTable.containsKey("leon")).isFalse();
+        assertThat(hashTable.containsValue(553)).isTrue();
+        assertThat(hashTable.containsValue(886)).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("remove deletes a mapping and returns a removed value")
+    void remove() {
+        hashTable.put("leon", 886);
+        hashTable.put("altea", 553);
+
+        assertThat(hashTable.remove("leon")).isEqualTo(886);
+        assertThat(hashTable.remove("leon")).isNull();
+        assertThat(hashTable.get("altea")).isEqualTo(553);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Values of different size are stored as new records, and compact releases the old ones")
+    void updateAndCompact() {
+        try (var table = new OffHeapHashTable<String, String>(Codec.STRING, Codec.STRING, 8, 1024)) {
+            for (int i = 0; i < 100; i++) {
+                table.put("key" + i, "short");
+            }
+            for (int i = 0; i < 100; i++) {
+                table.put("key" + i, "a much longer value");
+            }
+            var bytesBeforeCompact = table.offHeapBytes();
+
+            assertThat(table.garbageBytes()).isPositive();
+
+            table.compact();
+
+            assertThat(table.garbageBytes()).isZero();
+            assertThat(table.offHeapBytes()).isLessThan(bytesBeforeCompact);
+            for (int i = 0; i < 100; i++) {
+                assertThat(table.get("key" + i)).isEqualTo("a much longer value");
+            }
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Entries are stored off-heap")
+    void onHeapAndOffHeapBytes() {
+        var emptyOffHeapBytes = hashTable.offHeapBytes();
+
+        for (int i = 0; i < 10_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertThat(hashTable.offHeapBytes()).isGreaterThan(emptyOffHeapBytes + 10_000 * 8);
+        assertThat(hashTable.onHeapBytes()).isLessThan(hashTable.offHeapBytes() / 10);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("close releases memory and forbids further operations")
+    void closeTable() {
+        hashTable.put("madmax", 833);
+
+        hashTable.close();
+
+        assertThat(hashTable.offHeapBytes()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> hashTable.get("madmax"));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("putAll and forEach copy all entries")
+    void putAllAndForEach() {
+        var keys = new String[1_000];
+        var values = new Integer[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+            values[i] = i;
+        }
+        hashTable.putAll(keys, values);
+        var copy = new HashMap<String, Integer>();
+
+        hashTable.forEach(copy::put);
+
+        assertThat(copy).hasSize(1_000).containsEntry("key0", 0).containsEntry("key999", 999);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("cursor walks through all entries")
+    void cursor() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        var visited = new HashMap<String, Integer>();
+        var cursor = hashTable.cursor();
+
+        while (cursor.advance()) {
+            visited.put(cursor.key(), cursor.value());
+        }
+
+        assertThat(visited).hasSize(2).containsEntry("madmax", 833).containsEntry("altea", 553);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Random operations give the same result as java.util.HashMap")
+    void randomOperations() {
+        var random = new Random(42);
+        var expected = new HashMap<String, Integer>();
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = "key" + random.nextInt(1_000);
+            var value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(hashTable.put(key, value)).isEqualTo(expected.put(key, value));
+                case 1 -> assertThat(hashTable.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(hashTable.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("A table at maximum capacity is not resized and rejects new keys when it is full")
+    void putAtMaximumCapacity() {
+        try (var table = new OffHeapHashTable<String, Integer>(Codec.STRING, Codec.INTEGER, 8, 1024, 16)) {
+            for (int i = 0; i < 12; i++) {
+                table.put("key" + i, i);
+            }
+            var offHeapBytes = table.offHeapBytes();
+
+            table.resizeTable(1 << 20);
+
+            assertThat(table.offHeapBytes()).isEqualTo(offHeapBytes);
+            assertThatIllegalStateException().isThrownBy(() -> table.put("key12", 12))
+                    .withMessageContaining("full");
+            assertThat(table.size()).isEqualTo(12);
+            assertThat(table.put("key0", 100)).isEqualTo(0);
+
+            table.remove("key1");
+            table.put("key12", 12);
+
+            assertThat(table.offHeapBytes()).isEqualTo(offHeapBytes);
+            for (int i = 2; i <= 12; i++) {
+                assertThat(table.get("key" + i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("putAll throws exception when arrays have different length and does not resize the index")
+    void putAllWithDifferentLength() {
+        var offHeapBytes = hashTable.offHeapBytes();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> hashTable.putAll(new String[1_000], new Integer[0]));
+        assertThat(hashTable.offHeapBytes()).isEqualTo(offHeapBytes);
+    }
+}
@@ -0,0 +1,344 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.entry;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("RobinHoodHashTable Test")
+class RobinHoodHashTableTest {
+    private final RobinHoodHashTable<String, Integer> hashTable = new RobinHoodHashTable<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void constructorWithNegativeCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RobinHoodHashTable<>(0));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor throws exception when load factor is out of range")
+    void constructorWithWrongLoadFactor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RobinHoodHashTable<>(8, 1f));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("put creates a new mapping and returns null")
+    void putNewKey() {
+        var oldValue = hashTable.put("madmax", 833);
+
+        assertThat(oldValue).isNull();
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("put updates an existing value and returns the old one")
+    void putExistingKey() {
+        hashTable.put("madmax", 833);
+
+        var oldValue = hashTable.put("madmax", 886);
+
+        assertThat(oldValue).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(886);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("put throws exception when key is null")
+    void putNullKey() {
+        assertThatNullPointerException().isThrownBy(() -> hashTable.put(null, 1));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("get returns null when key does not exist")
+    void getNotExistingKey() {
+        hashTable.put("johnny", 439);
+
+        assertThat(hashTable.get("altea")).isNull();
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("containsKey and containsValue find existing entries")
+    void containsKeyAndValue() {
+        hashTable.put("altea", 553);
+
+        assertThat(hashTable.containsKey("altea")).isTrue();
+        assertThat(hashTable.containsKey("leon")).isFalse();
+        assertThat(hashTable.containsValue(553)).isTrue();
+        assertThat(hashTable.containsValue(886)).isFalse();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("isEmpty returns true only for an empty table")
+    void isEmpty() {
+        assertThat(hashTable.isEmpty()).isTrue();
+
+        hashTable.put("leon", 886);
+
+        assertThat(hashTable.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("remove deletes a mapping and returns a removed value")
+    void remove() {
+        hashTable.put("leon", 886);
+        hashTable.put("altea", 553);
+
+        var removedValue = hashTable.remove("leon");
+
+        assertThat(removedValue).isEqualTo(886);
+        assertThat(hashTable.containsKey("leon")).isFalse();
+        assertThat(hashTable.get("altea")).isEqualTo(553);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("remove returns null when key does not exist")
+    void removeNotExistingKey() {
+        hashTable.put("leon", 886);
+
+        assertThat(hashTable.remove("altea")).isNull();
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("remove shifts back colliding entries so they can still be found")
+    void removeCollidingKeys() {
+        var collidingTable = new RobinHoodHashTable<CollidingKey, Integer>();
+        for (int i = 0; i < 5; i++) {
+            collidingTable.put(new CollidingKey(i), i);
+        }
+
+        collidingTable.remove(new CollidingKey(0));
+        collidingTable.remove(new CollidingKey(2));
+
+        assertThat(collidingTable.size()).isEqualTo(3);
+        assertThat(collidingTable.get(new CollidingKey(1))).isEqualTo(1);
+        assertThat(collidingTable.get(new CollidingKey(3))).isEqualTo(3);
+        assertThat(collidingTable.get(new CollidingKey(4))).isEqualTo(4);
+        assertThat(collidingTable.get(new CollidingKey(2))).isNull();
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Table grows automatically and keeps all entries")
+    void resizeOnPut() {
+        for (int i = 0; i < 10_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertThat(hashTable.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(hashTable.get("key" + i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("resizeTable throws exception when new capacity is too small")
+    void resizeTableTooSmall() {
+        for (int i = 0; i < 10; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertThatIllegalArgumentException().isThrownBy(() -> hashTable.resizeTable(4));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Random operations give the same result as java.util.HashMap")
+    void randomOperations() {
+        var random = new Random(42);
+        var expected = new HashMap<Integer, Integer>();
+        var actual = new RobinHoodHashTable<Integer, Integer>();
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = random.nextInt(1_000);
+            var value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(actual.put(key, value)).isEqualTo(expected.put(key, value));
+                case 1 -> assertThat(actual.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(actual.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+        assertThat(actual.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("toString prints every slot of the underlying array")
+    void toStringPrintsSlots() {
+        var table = new RobinHoodHashTable<String, Integer>(2);
+        table.put("johnny", 439);
+        var index = RobinHoodHashTable.hash("johnny") & 1;
+
+        assertThat(table.toString().lines()).hasSize(2).contains(index + ": johnny=439");
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("forEach visits every entry")
+    void forEachEntry() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        var visited = new HashMap<String, Integer>();
+
+        hashTable.forEach(visited::put);
+
+        assertThat(visited).containsOnly(entry("madmax", 833), entry("altea", 553));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("putAll copies all entries from another map")
+    void putAllFromMap() {
+        var other = new RobinHoodHashTable<String, Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            other.put("key" + i, i);
+        }
+        hashTable.put("key0", -1);
+        hashTable.put("madmax", 833);
+
+        hashTable.putAll(other);
+
+        assertThat(hashTable.size()).isEqualTo(1_001);
+        assertThat(hashTable.get("key0")).isEqualTo(0);
+        assertThat(hashTable.get("key999")).isEqualTo(999);
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("putAll adds keys and values from arrays")
+    void putAllFromArrays() {
+        var keys = new String[1_000];
+        var values = new Integer[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+            values[i] = i;
+        }
+
+        hashTable.putAll(keys, values);
+
+        assertThat(hashTable.size()).isEqualTo(1_000);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(hashTable.get(keys[i])).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("putAll throws exception when arrays have different length and does not resize the table")
+    void putAllWithDifferentLength() {
+        var capacity = hashTable.toString().lines().count();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> hashTable.putAll(new String[1_000], new Integer[0]));
+        assertThat(hashTable.toString().lines().count()).isEqualTo(capacity);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("getAll writes values of given keys to the result array")
+    void getAll() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        var result = new Integer[3];
+
+        hashTable.getAll(new String[]{"altea", "leon", "madmax"}, result);
+
+        assertThat(result).containsExactly(553, null, 833);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("cursor walks through all entries and can be reset")
+    void cursor() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        var visited = new HashMap<String, Integer>();
+        var cursor = hashTable.cursor();
+
+        while (cursor.advance()) {
+            visited.put(cursor.key(), cursor.value());
+        }
+        cursor.reset();
+
+        assertThat(visited).containsOnly(entry("madmax", 833), entry("altea", 553));
+        assertThat(cursor.advance()).isTrue();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("cursor throws exception when it does not point to an entry")
+    void cursorWithoutEntry() {
+        var cursor = hashTable.cursor();
+
+        assertThatIllegalStateException().isThrownBy(cursor::key);
+        assertThat(cursor.advance()).isFalse();
+        assertThatIllegalStateException().isThrownBy(cursor::value);
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("spliterator allows to process entries using a parallel stream")
+    void parallelStream() {
+        for (int i = 0; i < 10_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        var sum = StreamSupport.stream(hashTable.spliterator(), true)
+                .mapToLong(Map.Entry::value)
+                .sum();
+
+        assertThat(sum).isEqualTo(10_000L * 9_999 / 2);
+        assertThat(hashTable.spliterator().trySplit()).isNotNull();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("A table with a small capacity and a small load factor grows on put")
+    void putWithSmallCapacityAndLoadFactor() {
+        var table = new RobinHoodHashTable<String, Integer>(2, 0.1f);
+
+        for (int i = 0; i < 100; i++) {
+            table.put("key" + i, i);
+        }
+
+        assertThat(table.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.get("key" + i)).isEqualTo(i);
+        }
+        assertThat(table.toString().lines().count()).isGreaterThanOrEqualTo(1_000);
+    }
+
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}
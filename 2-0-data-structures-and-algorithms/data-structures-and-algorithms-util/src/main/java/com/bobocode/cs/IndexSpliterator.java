@@ -0,0 +1,76 @@
+package com.bobocode.cs;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link IndexSpliterator} walks through a range of {@link List} indexes using {@link List#get(int)}. It splits the
+ * range in half, so every part of a parallel stream gets its own range of indexes without copying. It should be used
+ * only for lists with a constant time get.
+ * <p>
+ * The end of the range is taken from the list size when the spliterator is used for the first time, so the list can
+ * be changed after the spliterator is created but before the stream is started.
+ *
+ * @param <T> element type
+ */
+class IndexSpliterator<T> implements Spliterator<T> {
+    private final List<T> list;
+    private int index;
+    private int fence;
+
+    IndexSpliterator(List<T> list) {
+        this(list, 0, -1);
+    }
+
+    private IndexSpliterator(List<T> list, int origin, int fence) {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < getFence()) {
+            action.accept(list.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        int end = getFence();
+        for (; index < end; index++) {
+            action.accept(list.get(index));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int end = getFence();
+        int middle = (index + end) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        var prefix = new IndexSpliterator<>(list, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private int getFence() {
+        if (fence < 0) {
+            fence = list.size();
+        }
+        return fence;
+    }
+}
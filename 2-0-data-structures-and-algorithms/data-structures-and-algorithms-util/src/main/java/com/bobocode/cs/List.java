@@ -1,7 +1,14 @@
 package com.bobocode.cs;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +30,166 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Inserts all the given elements starting from a given position. A default implementation adds them one by one,
+     * so the following elements are shifted once per element. An implementation should shift them only once.
+     *
+     * @param index    a position of the first new element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    default void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size() + 1);
+        for (int i = 0; i < elements.length; i++) {
+            add(index + i, elements[i]);
+        }
+    }
+
+    /**
+     * Inserts all the elements of a given list starting from a given position. The elements are copied to an array
+     * first, so a list can be inserted into itself.
+     *
+     * @param index    a position of the first new element
+     * @param elements a list of elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    @SuppressWarnings("unchecked")
+    default void addAll(int index, List<? extends T> elements) {
+        var array = new Object[elements.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = elements.get(i);
+        }
+        addAll(index, (T[]) array);
+    }
+
+    /**
+     * Removes all the elements with index in the range [fromIndex, toIndex). A default implementation removes them one
+     * by one. An implementation should shift the following elements only once.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is out of the list bounds
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all the elements that match a given predicate. The predicate is called once for every element, from
+     * the first to the last one. A default implementation removes the elements one by one. An implementation should
+     * move every remaining element not more than once.
+     *
+     * @param filter a predicate that returns true for elements to remove
+     * @return true if any element was removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        int sizeBefore = size();
+        int i = 0;
+        while (i < size()) {
+            if (filter.test(get(i))) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+        return size() != sizeBefore;
+    }
+
+    /**
+     * Returns the number of structural changes of the list (adding and removing elements, but not set). Views and
+     * iterators remember it to find out that the list was changed not through them. A default implementation returns
+     * -1, which means that the list does not count its changes.
+     *
+     * @return the number of structural changes, or -1 if the list does not count them
+     */
+    default int modCount() {
+        return -1;
+    }
+
+    /**
+     * Returns a view of the elements with index in the range [fromIndex, toIndex). The elements are not copied, all
+     * the changes made through the view are applied to this list and vice versa. If this list is structurally changed
+     * not through the view (e.g. elements are added or removed), the view cannot be used anymore. If this list counts
+     * its changes (see {@link List#modCount()}), the view throws {@link java.util.ConcurrentModificationException}
+     * in that case.
+     *
+     * @param fromIndex index of the first element of the view
+     * @param toIndex   index after the last element of the view
+     * @return a new view
+     * @throws IndexOutOfBoundsException if the range is out of the list bounds
+     */
+    default List<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Creates an iterator of the list elements. A default iterator uses {@link List#get(int)} and
+     * {@link List#remove(int)}. An implementation should provide a <em>fail-fast</em> iterator: it counts structural
+     * changes of the list (modCount), and the iterator throws {@link java.util.ConcurrentModificationException} once
+     * the list was changed not through the iterator.
+     *
+     * @return a new iterator
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = index;
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                List.this.remove(lastReturned);
+                index = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} of the list elements. A default spliterator is ORDERED, SIZED and SUBSIZED, and
+     * splits by index range using {@link List#get(int)}, so it suits array-based lists. A list with a slow get (e.g. a
+     * linked list) should override it and split by copying batches of elements to arrays.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return new IndexSpliterator<>(this);
+    }
+
+    /**
+     * @return a sequential stream of the list elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel stream of the list elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
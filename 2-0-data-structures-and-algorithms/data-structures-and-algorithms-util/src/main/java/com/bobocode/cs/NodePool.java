@@ -0,0 +1,111 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link NodePool} is a bounded free list of nodes for linked data structures. When an element is removed, its node
+ * can be released to the pool, and the next added element takes it instead of allocating a new node. A structure that
+ * adds and removes millions of elements per second creates almost no garbage then, so the young GC runs much less
+ * often.
+ * <p>
+ * The pool keeps not more than a given number of nodes, so a structure that once had a lot of elements does not hold
+ * all of its nodes forever. When the pool is full, released nodes are just left to the garbage collector.
+ * <p>
+ * A node must be cleared before it is released, so the pool never keeps a reference to a removed element or to other
+ * nodes. The pool is not thread-safe, just like the structures that use it.
+ *
+ * @param <N> node type
+ */
+public class NodePool<N> {
+    private final Supplier<N> nodeFactory;
+    private final Object[] freeNodes;
+    private int available;
+    private long allocatedCount;
+    private long reusedCount;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity    max number of nodes kept in the pool, 0 means that nodes are never reused
+     * @param nodeFactory creates a new node when the pool is empty
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public NodePool(int capacity, Supplier<N> nodeFactory) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+        }
+        this.nodeFactory = Objects.requireNonNull(nodeFactory);
+        this.freeNodes = new Object[capacity];
+    }
+
+    /**
+     * Takes the last released node from the pool, or creates a new one if the pool is empty.
+     *
+     * @return a node
+     */
+    @SuppressWarnings("unchecked")
+    public N acquire() {
+        if (available == 0) {
+            allocatedCount++;
+            return nodeFactory.get();
+        }
+        N node = (N) freeNodes[--available];
+        freeNodes[available] = null;
+        reusedCount++;
+        return node;
+    }
+
+    /**
+     * Puts a cleared node to the pool, unless the pool is full.
+     *
+     * @param node a node that is not used by the structure anymore
+     * @return true if the node was kept, false if the pool is full
+     */
+    public boolean release(N node) {
+        Objects.requireNonNull(node);
+        if (available == freeNodes.length) {
+            return false;
+        }
+        freeNodes[available++] = node;
+        return true;
+    }
+
+    /**
+     * Drops all the nodes that are kept in the pool.
+     */
+    public void clear() {
+        for (int i = 0; i < available; i++) {
+            freeNodes[i] = null;
+        }
+        available = 0;
+    }
+
+    /**
+     * @return a number of nodes that can be acquired without allocation
+     */
+    public int available() {
+        return available;
+    }
+
+    /**
+     * @return max number of nodes kept in the pool
+     */
+    public int capacity() {
+        return freeNodes.length;
+    }
+
+    /**
+     * @return a number of nodes that were created by {@link NodePool#acquire()}
+     */
+    public long allocatedCount() {
+        return allocatedCount;
+    }
+
+    /**
+     * @return a number of nodes that were taken from the pool by {@link NodePool#acquire()}
+     */
+    public long reusedCount() {
+        return reusedCount;
+    }
+}
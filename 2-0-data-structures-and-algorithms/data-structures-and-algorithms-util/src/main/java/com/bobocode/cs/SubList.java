@@ -0,0 +1,184 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link SubList} is a view of a range of a parent {@link List}. It stores only the parent, an offset and a size, and
+ * delegates all the operations to the parent, shifting indexes by the offset. Bulk operations are delegated as bulk
+ * operations, so they are as efficient as in the parent. A view of a view has the first view as its parent, so both
+ * of them see the changes of their sizes.
+ * <p>
+ * The view remembers {@link List#modCount()} of the parent and updates it after its own changes. Every operation
+ * checks it first, and throws {@link ConcurrentModificationException} if the parent was structurally changed not
+ * through the view, because the offset and the size of the view do not match the parent anymore.
+ *
+ * @param <T> element type
+ */
+class SubList<T> implements List<T> {
+    private final List<T> parent;
+    private final int offset;
+    private int size;
+    private int expectedModCount;
+
+    SubList(List<T> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedModCount = parent.modCount();
+    }
+
+    @Override
+    public void add(T element) {
+        checkForComodification();
+        parent.add(offset + size, element);
+        expectedModCount = parent.modCount();
+        size++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+        parent.add(offset + index, element);
+        expectedModCount = parent.modCount();
+        size++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T getFirst() {
+        checkForComodification();
+        checkNotEmpty();
+        return parent.get(offset);
+    }
+
+    @Override
+    public T getLast() {
+        checkForComodification();
+        checkNotEmpty();
+        return parent.get(offset + size - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        T removedElement = parent.remove(offset + index);
+        expectedModCount = parent.modCount();
+        size--;
+        return removedElement;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        checkForComodification();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(parent.get(offset + i), element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkForComodification();
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        checkForComodification();
+        parent.removeRange(offset, offset + size);
+        expectedModCount = parent.modCount();
+        size = 0;
+    }
+
+    @Override
+    public void addAll(int index, T[] elements) {
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+        parent.addAll(offset + index, elements);
+        expectedModCount = parent.modCount();
+        size += elements.length;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        expectedModCount = parent.modCount();
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Removes matching elements of the view. It moves the elements to keep to the beginning of the view, so the
+     * predicate is called only for the elements of the view, and then removes the tail of the view with one
+     * {@link List#removeRange(int, int)} call on the parent.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        checkForComodification();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T element = parent.get(offset + i);
+            if (!filter.test(element)) {
+                if (kept != i) {
+                    parent.set(offset + kept, element);
+                }
+                kept++;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        parent.removeRange(offset + kept, offset + size);
+        expectedModCount = parent.modCount();
+        size = kept;
+        return true;
+    }
+
+    /**
+     * Returns the modCount of the parent, so a view of this view finds out about the changes of the parent too.
+     */
+    @Override
+    public int modCount() {
+        checkForComodification();
+        return parent.modCount();
+    }
+
+    private void checkForComodification() {
+        if (parent.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.PushPopWorkload.Node;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import static com.bobocode.cs.PushPopWorkload.STACK_DEPTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks of {@link NodePool}. They print their measurements instead of checking them, because allocation and
+ * timings depend on the JVM and the machine, so they are not part of a regular build. Run them with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class NodePoolBenchmark {
+    private static final int OPERATIONS = 2_000_000;
+
+    /**
+     * Pushes and pops elements of a linked stack with and without a pool, and compares the number of bytes allocated
+     * by the current thread, the number of GC runs and the time. The pool is as big as the stack, so after warm-up
+     * every push reuses a node.
+     */
+    @Test
+    void allocationRate() {
+        var withoutPool = new NodePool<>(0, Node::new);
+        var withPool = new NodePool<>(STACK_DEPTH, Node::new);
+        PushPopWorkload.run(withoutPool, OPERATIONS);
+        PushPopWorkload.run(withPool, OPERATIONS);
+
+        var gcCountBefore = gcCount();
+        var bytesBefore = allocatedBytes();
+        var startTime = System.nanoTime();
+        long sumWithoutPool = PushPopWorkload.run(withoutPool, OPERATIONS);
+        var nanosWithoutPool = System.nanoTime() - startTime;
+        var bytesWithoutPool = allocatedBytes() - bytesBefore;
+        var gcCountWithoutPool = gcCount() - gcCountBefore;
+
+        gcCountBefore = gcCount();
+        bytesBefore = allocatedBytes();
+        startTime = System.nanoTime();
+        long sumWithPool = PushPopWorkload.run(withPool, OPERATIONS);
+        var nanosWithPool = System.nanoTime() - startTime;
+        var bytesWithPool = allocatedBytes() - bytesBefore;
+        var gcCountWithPool = gcCount() - gcCountBefore;
+
+        System.out.printf("%d push + pop without pool: %d KB allocated, %d GC runs, %d ms%n",
+                OPERATIONS, bytesWithoutPool / 1024, gcCountWithoutPool, nanosWithoutPool / 1_000_000);
+        System.out.printf("%d push + pop with pool: %d KB allocated, %d GC runs, %d ms%n",
+                OPERATIONS, bytesWithPool / 1024, gcCountWithPool, nanosWithPool / 1_000_000);
+
+        assertThat(sumWithPool).isEqualTo(sumWithoutPool);
+    }
+
+    private long allocatedBytes() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+}
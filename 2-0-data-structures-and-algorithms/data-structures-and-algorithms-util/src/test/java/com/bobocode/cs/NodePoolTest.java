@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.PushPopWorkload.Node;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.bobocode.cs.PushPopWorkload.STACK_DEPTH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NodePoolTest {
+    private static final int OPERATIONS = 2_000_000;
+
+    private final NodePool<Node> pool = new NodePool<>(2, Node::new);
+
+    @Test
+    @Order(1)
+    void createPoolWithNegativeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new NodePool<>(-1, Node::new));
+    }
+
+    @Test
+    @Order(2)
+    void acquireCreatesNodeWhenPoolIsEmpty() {
+        var node = pool.acquire();
+
+        assertThat(node).isNotNull();
+        assertThat(pool.allocatedCount()).isEqualTo(1);
+        assertThat(pool.reusedCount()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    void acquireReturnsLastReleasedNode() {
+        var first = new Node();
+        var second = new Node();
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire()).isSameAs(second);
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.reusedCount()).isEqualTo(2);
+        assertThat(pool.allocatedCount()).isZero();
+    }
+
+    @Test
+    @Order(4)
+    void releaseDropsNodeWhenPoolIsFull() {
+        assertThat(pool.release(new Node())).isTrue();
+        assertThat(pool.release(new Node())).isTrue();
+        assertThat(pool.release(new Node())).isFalse();
+
+        assertThat(pool.available()).isEqualTo(2);
+        assertThat(pool.capacity()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    void poolWithZeroCapacityNeverReusesNodes() {
+        var disabledPool = new NodePool<>(0, Node::new);
+
+        assertThat(disabledPool.release(new Node())).isFalse();
+        assertThat(disabledPool.acquire()).isNotNull();
+        assertThat(disabledPool.allocatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    void clearDropsPooledNodes() {
+        pool.release(new Node());
+        pool.release(new Node());
+
+        pool.clear();
+
+        assertThat(pool.available()).isZero();
+        pool.acquire();
+        assertThat(pool.allocatedCount()).isEqualTo(1);
+    }
+
+    /**
+     * Pushes and pops elements of a linked stack with and without a pool. The pool is as big as the stack, so only the
+     * first pushes allocate nodes, and all the others reuse them.
+     */
+    @Test
+    @Order(7)
+    void poolReusesNodesOfLinkedStack() {
+        var withoutPool = new NodePool<>(0, Node::new);
+        var withPool = new NodePool<>(STACK_DEPTH, Node::new);
+
+        long sumWithoutPool = PushPopWorkload.run(withoutPool, OPERATIONS);
+        long sumWithPool = PushPopWorkload.run(withPool, OPERATIONS);
+
+        assertThat(sumWithPool).isEqualTo(sumWithoutPool);
+        assertThat(withoutPool.allocatedCount()).isEqualTo(OPERATIONS / 2);
+        assertThat(withPool.allocatedCount()).isEqualTo(STACK_DEPTH);
+        assertThat(withPool.reusedCount()).isEqualTo(OPERATIONS / 2 - STACK_DEPTH);
+    }
+}
@@ -0,0 +1,43 @@
+package com.bobocode.cs;
+
+/**
+ * {@link PushPopWorkload} pushes and pops elements of a linked stack that takes its nodes from a {@link NodePool}. It
+ * pushes {@link PushPopWorkload#STACK_DEPTH} elements, pops all of them and repeats, so a pool of the same size
+ * reuses a node for every push after the first round.
+ */
+final class PushPopWorkload {
+    static final int STACK_DEPTH = 64;
+
+    static class Node {
+        int element;
+        Node next;
+    }
+
+    private PushPopWorkload() {
+    }
+
+    /**
+     * @param nodePool   a pool to acquire and release nodes
+     * @param operations a number of pushes and pops together
+     * @return a sum of popped elements
+     */
+    static long run(NodePool<Node> nodePool, int operations) {
+        Node head = null;
+        long sum = 0;
+        for (int i = 0; i < operations; i++) {
+            if (i % (2 * STACK_DEPTH) < STACK_DEPTH) {
+                var node = nodePool.acquire();
+                node.element = i;
+                node.next = head;
+                head = node;
+            } else {
+                var node = head;
+                head = node.next;
+                sum += node.element;
+                node.next = null;
+                nodePool.release(node);
+            }
+        }
+        return sum;
+    }
+}